@@ -0,0 +1,60 @@
+package fortehackathon.prompt;
+
+import fortehackathon.util.TranscriptCompressor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// transcripts from a few minutes up to a multi-hour recording
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequestPromptBenchmark {
+
+    private static final List<String> MEMBERS = List.of(
+            "aidar.pm", "dana.dev", "erzhan.qa", "alex.ops", "madina.dev", "timur.dev",
+            "aliya.ba", "sergey.dev", "zhanna.design", "nurlan.sre", "olga.dev", "bekzat.dev");
+    private static final String[] LINES = {
+            "ну, давай начнём с платёжного шлюза, там опять задержки по ночам",
+            "um, I think we should move the limits check out of the gateway first",
+            "Дана, возьмёшь миграцию токенизации карт до пятницы?",
+            "yeah, I can take that, uh, but I need access to the new vault",
+            "[crosstalk] подожди, сначала надо закрыть алерты по Kafka",
+            "Ержан, подготовь, пожалуйста, регресс по settlement до среды",
+            "okay, so action items: SLA update, demo for the risk team, flaky test"
+    };
+
+    @Param({"10000", "100000", "1000000"})
+    private int transcriptLength;
+
+    private String transcript;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(transcriptLength + 200);
+        int second = 0;
+        while (builder.length() < transcriptLength) {
+            second += 3 + random.nextInt(20);
+            builder.append(String.format("[%02d:%02d:%02d] ", second / 3600, second / 60 % 60, second % 60))
+                    .append(MEMBERS.get(random.nextInt(MEMBERS.size())))
+                    .append(": ")
+                    .append(LINES[random.nextInt(LINES.length)])
+                    .append('\n');
+        }
+        transcript = builder.toString();
+    }
+
+    @Benchmark
+    public String meetingAnalysisPrompt() {
+        return RequestPrompt.buildMeetingAnalysisPrompt(transcript, MEMBERS);
+    }
+
+    // what AIService actually sends with transcript-compression.enabled
+    @Benchmark
+    public String compactedMeetingAnalysisPrompt() {
+        return RequestPrompt.buildMeetingAnalysisPrompt(TranscriptCompressor.compress(transcript), MEMBERS);
+    }
+}
@@ -0,0 +1,75 @@
+package fortehackathon.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fortehackathon.entity.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpEntity;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// the JSON that createIssue and updateIssue send, without the HTTP round trip
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JiraPayloadBenchmark {
+
+    @Param({"200", "5000"})
+    private int descriptionLength;
+
+    private JiraService jiraService;
+    private User user;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        jiraService = new JiraService(null, new ObjectMapper(), null);
+
+        Team team = Team.builder()
+                .id(1L)
+                .name("Payments")
+                .jiraProjectKey("PAY")
+                .jiraUrl("https://forte.atlassian.net")
+                .build();
+        user = User.builder()
+                .id(1L)
+                .username("aidar.pm")
+                .jiraUsername("aidar@forte.kz")
+                .jiraApiToken("ATATT3xFfGF0example")
+                .role(Role.PROJECT_MANAGER)
+                .team(team)
+                .build();
+        User assignee = User.builder()
+                .id(2L)
+                .username("dana.dev")
+                .jiraUsername("dana@forte.kz")
+                .team(team)
+                .build();
+
+        StringBuilder description = new StringBuilder();
+        while (description.length() < descriptionLength) {
+            description.append("Перенести проверку лимитов в отдельный сервис и покрыть тестами. ");
+        }
+
+        task = Task.builder()
+                .summary("Вынести проверку лимитов из платёжного шлюза")
+                .description(description.substring(0, descriptionLength))
+                .assignee(assignee)
+                .team(team)
+                .status(TaskStatus.IN_PROGRESS)
+                .priority(Priority.HIGH)
+                .deadline(LocalDateTime.of(2026, 11, 2, 18, 0))
+                .jiraKey("PAY-1042")
+                .build();
+    }
+
+    @Benchmark
+    public HttpEntity<String> createIssueRequest() throws Exception {
+        return jiraService.buildRequestEntity(user, jiraService.buildIssuePayload(user, task));
+    }
+
+    @Benchmark
+    public HttpEntity<String> editIssueRequest() throws Exception {
+        return jiraService.buildRequestEntity(user, jiraService.buildEditPayload(task));
+    }
+}
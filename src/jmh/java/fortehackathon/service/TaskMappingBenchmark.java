@@ -0,0 +1,60 @@
+package fortehackathon.service;
+
+import fortehackathon.dto.TaskResponse;
+import fortehackathon.entity.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// one full page of the task listing, MAX_PAGE_SIZE rows
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskMappingBenchmark {
+
+    private static final int PAGE_SIZE = 200;
+
+    private TaskService taskService;
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        taskService = new TaskService(null, null, null, null, null, null, null, null);
+
+        Team team = Team.builder().id(1L).name("Payments").build();
+        List<User> members = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            members.add(User.builder().id((long) i).username("member" + i).team(team).build());
+        }
+
+        tasks = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.of(2026, 10, 19, 12, 0);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            tasks.add(Task.builder()
+                    .id((long) i)
+                    .jiraKey("PAY-" + (1000 + i))
+                    .summary("Task summary " + i)
+                    .description("Task description with some detail about item " + i)
+                    .assignee(i % 5 == 0 ? null : members.get(i % members.size()))
+                    .team(team)
+                    .status(TaskStatus.values()[i % TaskStatus.values().length])
+                    .priority(Priority.values()[i % Priority.values().length])
+                    .deadline(i % 3 == 0 ? null : now.plusDays(i % 14))
+                    .createdAt(now.minusHours(i))
+                    .jiraUrl("https://forte.atlassian.net/browse/PAY-" + (1000 + i))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void mapPage(Blackhole blackhole) {
+        for (Task task : tasks) {
+            TaskResponse response = taskService.mapToResponse(task);
+            blackhole.consume(response);
+        }
+    }
+}
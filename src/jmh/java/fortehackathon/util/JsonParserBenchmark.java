@@ -0,0 +1,61 @@
+package fortehackathon.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fortehackathon.dto.TaskExtractionResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// pretty-printed arrays shaped like what the meeting-analysis prompt gets back
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonParserBenchmark {
+
+    private static final String[] SUMMARIES = {
+            "Обновить SLA для платёжного шлюза",
+            "Fix flaky settlement reconciliation test",
+            "Подготовить демо для команды рисков",
+            "Migrate card tokenization to the new vault",
+            "Разобрать алерты по задержкам в Kafka"
+    };
+    private static final String[] ASSIGNEES = {"Айдар", "dana.dev", null, "Ержан Н.", "Alex"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "CRITICAL"};
+
+    @Param({"5", "25", "100"})
+    private int tasks;
+
+    private JsonParser jsonParser;
+    private String response;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        jsonParser = new JsonParser(objectMapper, new SimpleMeterRegistry());
+
+        LocalDateTime base = LocalDateTime.of(2026, 10, 20, 18, 0);
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("summary", SUMMARIES[i % SUMMARIES.length]);
+            item.put("description", "Обсудили на встрече: " + SUMMARIES[(i + 1) % SUMMARIES.length]
+                    + ". Нужно согласовать с владельцем сервиса и отписаться в канал до конца недели.");
+            item.put("assignee", ASSIGNEES[i % ASSIGNEES.length]);
+            item.put("priority", PRIORITIES[i % PRIORITIES.length]);
+            item.put("deadline", i % 3 == 0 ? null : base.plusDays(i % 10).toString());
+            items.add(item);
+        }
+        response = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(items);
+    }
+
+    @Benchmark
+    public List<TaskExtractionResult> parseMultipleTasks() throws Exception {
+        return jsonParser.parseMultipleTasks(response);
+    }
+}
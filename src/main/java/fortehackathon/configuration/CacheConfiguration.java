@@ -0,0 +1,47 @@
+package fortehackathon.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fortehackathon.dto.StatusOverviewResponse;
+import fortehackathon.dto.TeamRoster;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfiguration {
+
+    @Bean
+    public Cache<Long, StatusOverviewResponse> statusOverviewCache(
+            MeterRegistry meterRegistry,
+            @Value("${status.overview-cache.ttl:10s}") Duration ttl,
+            @Value("${status.overview-cache.max-teams:10000}") long maxTeams
+    ) {
+        Cache<Long, StatusOverviewResponse> cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxTeams)
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "status.overview");
+    }
+
+    @Bean
+    public Cache<Long, TeamRoster> teamRosterCache(
+            MeterRegistry meterRegistry,
+            @Value("${team-roster.cache.expire-after-access:30m}") Duration expireAfterAccess,
+            @Value("${team-roster.cache.max-teams:10000}") long maxTeams
+    ) {
+        Cache<Long, TeamRoster> cache = Caffeine.newBuilder()
+                .expireAfterAccess(expireAfterAccess)
+                .maximumSize(maxTeams)
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "team.roster");
+    }
+}
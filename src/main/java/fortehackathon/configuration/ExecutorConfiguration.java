@@ -0,0 +1,51 @@
+package fortehackathon.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.CompositeTaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+
+@Configuration
+@EnableAsync
+public class ExecutorConfiguration {
+
+    @Bean
+    public ThreadPoolTaskExecutor jiraExecutor(@Value("${jira.bulk.parallelism:8}") int parallelism) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("jira-");
+        executor.setTaskDecorator(backgroundDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor meetingExecutor(
+            @Value("${meeting-processing.parallelism:4}") int parallelism,
+            @Value("${meeting-processing.queue-capacity:100}") int queueCapacity
+    ) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("meeting-");
+        executor.setTaskDecorator(backgroundDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    // carries the submitting thread's observation (trace/span ids, MDC) over to the pool thread
+    private static TaskDecorator backgroundDecorator() {
+        return new CompositeTaskDecorator(List.of(
+                new ContextPropagatingTaskDecorator(),
+                Workload.decorator(Workload.BACKGROUND)));
+    }
+}
@@ -0,0 +1,18 @@
+package fortehackathon.configuration;
+
+import fortehackathon.grpc.GrpcAuthInterceptor;
+import io.grpc.ServerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.grpc.server.ServerBuilderCustomizer;
+
+@Configuration
+public class GrpcServerConfiguration {
+
+    @Bean
+    public <T extends ServerBuilder<T>> ServerBuilderCustomizer<T> connectionTrackingCustomizer(
+            GrpcAuthInterceptor authInterceptor
+    ) {
+        return builder -> builder.addTransportFilter(authInterceptor.transportFilter());
+    }
+}
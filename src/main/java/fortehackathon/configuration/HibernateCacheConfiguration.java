@@ -0,0 +1,86 @@
+package fortehackathon.configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import fortehackathon.entity.Team;
+import fortehackathon.entity.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+public class HibernateCacheConfiguration {
+
+    // region names default to the entity / collection role
+    static final List<String> REGIONS = List.of(
+            Team.class.getName(),
+            Team.class.getName() + ".members",
+            User.class.getName(),
+            User.class.getName() + "##NaturalId"
+    );
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${hibernate-cache.ttl:60s}") Duration ttl,
+            @Value("${hibernate-cache.max-entries:10000}") long maxEntries
+    ) {
+        var provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // one manager per application context: the provider's default manager is shared JVM-wide, so a second
+        // context (another test configuration) would find the regions already created, and closing one would
+        // close the caches under the other
+        var cacheManager = provider.getCacheManager(
+                URI.create("hibernate-l2:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : REGIONS) {
+            var config = new CaffeineConfiguration<Object, Object>();
+            config.setMaximumSize(OptionalLong.of(maxEntries));
+            config.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            cacheManager.createCache(region, config);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    // request and put counters per region come from hibernate-micrometer, this adds the ratio
+    @Bean
+    public MeterBinder secondLevelCacheHitRatio(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            for (String region : REGIONS) {
+                Gauge.builder("hibernate.l2.hit.ratio", statistics, s -> hitRatio(s, region))
+                        .tag("region", region)
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        try {
+            CacheRegionStatistics stats = statistics.getDomainDataRegionStatistics(region);
+            long requests = stats.getHitCount() + stats.getMissCount();
+            return requests == 0 ? Double.NaN : (double) stats.getHitCount() / requests;
+        } catch (IllegalArgumentException e) {
+            return Double.NaN;
+        }
+    }
+}
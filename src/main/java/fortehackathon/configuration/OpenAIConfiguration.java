@@ -3,11 +3,13 @@ package fortehackathon.configuration;
 
 
 import fortehackathon.properties.OpenAIProperties;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
 
 @Configuration
 @RequiredArgsConstructor
@@ -15,12 +17,17 @@ public class OpenAIConfiguration {
 
     private final OpenAIProperties properties;
 
+    // openai.url already ends with /v1 (see OpenAIBatchClient), so the chat path is relative to it
     @Bean
-    public OpenAiChatModel openAiChatModel() {
+    public OpenAiChatModel openAiChatModel(RestClient.Builder restClientBuilder, ObservationRegistry observationRegistry) {
         return OpenAiChatModel.builder()
                 .openAiApi(OpenAiApi.builder()
+                        .baseUrl(properties.getOpenAIURL())
+                        .completionsPath("/chat/completions")
                         .apiKey(properties.getOpenAIAPI())
+                        .restClientBuilder(restClientBuilder)
                         .build())
+                .observationRegistry(observationRegistry)
                 .build();
     }
-}
\ No newline at end of file
+}
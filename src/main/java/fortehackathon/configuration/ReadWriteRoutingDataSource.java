@@ -0,0 +1,71 @@
+package fortehackathon.configuration;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// needs a LazyConnectionDataSourceProxy in front: the read-only flag is only set after the connection is requested
+@RequiredArgsConstructor
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        BACKGROUND,
+        REPLICA
+    }
+
+    private final ReadYourWritesTracker tracker;
+
+    private final Object writeMarker = new Object();
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        // background jobs write as they go and must not starve request handling of connections
+        if (Workload.current() == Workload.BACKGROUND) {
+            return Route.BACKGROUND;
+        }
+
+        String principal = currentPrincipal();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (principal != null) {
+                markAfterCommit(principal);
+            }
+            return Route.PRIMARY;
+        }
+
+        // the replica may lag behind, keep a user's reads on the primary right after their own write
+        if (principal != null && tracker.isRecentWriter(principal)) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    private void markAfterCommit(String principal) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+            || TransactionSynchronizationManager.hasResource(writeMarker)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(writeMarker, principal);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tracker.markWrite(principal);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(writeMarker);
+            }
+        });
+    }
+
+    private String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,25 @@
+package fortehackathon.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void markWrite(String principal) {
+        recentWriters.put(principal, Boolean.TRUE);
+    }
+
+    public boolean isRecentWriter(String principal) {
+        return recentWriters.getIfPresent(principal) != null;
+    }
+}
@@ -0,0 +1,52 @@
+package fortehackathon.configuration;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+// one span per call on the repositories the meeting pipeline and task endpoints lean on, so slow queries show
+// up under the request or meeting that issued them; lookups like findByUsername on every request are left out
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryObservationAspect {
+
+    private final ObservationRegistry observationRegistry;
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..)) && ("
+            + "this(fortehackathon.repository.MeetingRepository) "
+            + "|| this(fortehackathon.repository.MeetingTranscriptRepository) "
+            + "|| this(fortehackathon.repository.TaskRepository))")
+    public Object observe(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = repositoryName(joinPoint);
+        String method = joinPoint.getSignature().getName();
+
+        Observation observation = Observation.createNotStarted("repository.call", observationRegistry)
+                .contextualName(repository + "." + method)
+                .lowCardinalityKeyValue("repository", repository)
+                .lowCardinalityKeyValue("method", method)
+                .start();
+
+        try (var scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    // inherited methods like save() are declared on CrudRepository, so name them after the proxied interface
+    private String repositoryName(ProceedingJoinPoint joinPoint) {
+        Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis());
+        return interfaces.length > 0
+                ? interfaces[0].getSimpleName()
+                : joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+}
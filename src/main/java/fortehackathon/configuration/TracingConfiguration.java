@@ -0,0 +1,25 @@
+package fortehackathon.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fortehackathon.util.JsonLinesSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+// every SpanExporter bean is registered with the tracer provider; OTLP is added by Boot when an endpoint is set
+@Configuration
+public class TracingConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.exporter", havingValue = "file")
+    public SpanExporter fileSpanExporter(
+            ObjectMapper objectMapper,
+            @Value("${tracing.file.path:logs/spans.jsonl}") String path
+    ) {
+        return new JsonLinesSpanExporter(Path.of(path), objectMapper);
+    }
+}
@@ -0,0 +1,27 @@
+package fortehackathon.configuration;
+
+import org.springframework.core.task.TaskDecorator;
+
+public enum Workload {
+    INTERACTIVE,
+    BACKGROUND;
+
+    private static final ThreadLocal<Workload> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    public static Workload current() {
+        return CURRENT.get();
+    }
+
+    // applied to executors and the scheduler so their JDBC work is routed to the matching pool
+    public static TaskDecorator decorator(Workload workload) {
+        return runnable -> () -> {
+            Workload previous = CURRENT.get();
+            CURRENT.set(workload);
+            try {
+                runnable.run();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+}
@@ -1,8 +1,11 @@
 package fortehackathon.controller;
 
 import fortehackathon.dto.*;
+import fortehackathon.entity.MeetingTranscript;
 import fortehackathon.entity.User;
 import fortehackathon.service.MeetingService;
+import fortehackathon.service.TeamVersionService;
+import fortehackathon.util.TranscriptCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -10,10 +13,19 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/meetings")
@@ -22,6 +34,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class MeetingController {
 
     private final MeetingService meetingService;
+    private final TeamVersionService teamVersionService;
 
     @Operation(
             summary = "Анализ митинга из файла",
@@ -49,7 +62,9 @@ public class MeetingController {
     @Operation(
             summary = "Анализ митинга из текстового транскрипта",
             description = "Позволяет отправить текстовый транскрипт митинга для анализа и генерации задач. " +
-                          "Транскрипт может содержать метки времени и имя участника.",
+                          "Транскрипт может содержать метки времени и имя участника. " +
+                          "С \"batch\": true транскрипт ставится в очередь (статус QUEUED) и обрабатывается " +
+                          "через OpenAI Batch API в течение 24 часов — дешевле, для импорта старых митингов.",
             requestBody = @RequestBody(
                     description = "Данные транскрипта митинга",
                     required = true,
@@ -70,6 +85,47 @@ public class MeetingController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "История митингов команды",
+            description = "Возвращает страницу митингов команды, отсортированных по дате загрузки (сначала новые), " +
+                          "с количеством созданных задач. Можно фильтровать по одному или нескольким статусам " +
+                          "обработки. Если есть следующая страница, её курсор возвращается в заголовках " +
+                          "Link (rel=\"next\") и X-Next-Cursor. Поддерживает If-None-Match",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Список митингов успешно получен",
+                            content = @Content(schema = @Schema(implementation = MeetingSummaryResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "Данные не изменились"),
+                    @ApiResponse(responseCode = "403", description = "Доступ запрещен для текущего пользователя")
+            }
+    )
+    @GetMapping
+    public ResponseEntity<List<MeetingSummaryResponse>> getMeetings(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            ServletWebRequest webRequest
+    ) {
+        String etag = teamVersionService.etag(user, "meetings", webRequest.getRequest().getQueryString());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        MeetingPageResponse page = meetingService.getMeetings(user, status, cursor, limit);
+
+        var response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache());
+        if (page.getNextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.getNextCursor())
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+            response.header("X-Next-Cursor", page.getNextCursor());
+        }
+        return response.body(page.getMeetings());
+    }
+
     @Operation(
             summary = "Получение статуса анализа митинга",
             description = "Позволяет получить текущий статус обработки митинга, а также список созданных задач.",
@@ -87,4 +143,45 @@ public class MeetingController {
     ) {
         return ResponseEntity.ok(meetingService.getMeetingStatus(user, meetingId));
     }
+
+    @Operation(
+            summary = "Получение транскрипта митинга",
+            description = "Возвращает полный текст транскрипта потоком. Транскрипт хранится в сжатом виде: " +
+                          "если клиент передает Accept-Encoding: deflate, данные отдаются без распаковки на сервере.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Транскрипт успешно получен",
+                            content = @Content(mediaType = "text/plain")),
+                    @ApiResponse(responseCode = "404", description = "Митинг или транскрипт не найден"),
+                    @ApiResponse(responseCode = "403", description = "Доступ запрещен для текущего пользователя")
+            }
+    )
+    @GetMapping("/{meetingId}/transcript")
+    public ResponseEntity<StreamingResponseBody> getTranscript(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long meetingId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        MeetingTranscript transcript = meetingService.getTranscript(user, meetingId);
+
+        var response = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        boolean passThrough = TranscriptCodec.DEFLATE.equals(transcript.getEncoding())
+                              && TranscriptCodec.accepts(acceptEncoding, TranscriptCodec.DEFLATE);
+        if (passThrough) {
+            return response
+                    .header(HttpHeaders.CONTENT_ENCODING, TranscriptCodec.DEFLATE)
+                    .contentLength(transcript.getCompressedSize())
+                    .body(out -> out.write(transcript.getContent()));
+        }
+
+        return response
+                .contentLength(transcript.getOriginalSize())
+                .body(out -> {
+                    try (var in = TranscriptCodec.open(transcript.getEncoding(), transcript.getContent())) {
+                        in.transferTo(out);
+                    }
+                });
+    }
 }
@@ -0,0 +1,65 @@
+package fortehackathon.controller;
+
+import fortehackathon.dto.SearchResultResponse;
+import fortehackathon.entity.User;
+import fortehackathon.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Tag(name = "Поиск", description = "Полнотекстовый поиск по задачам и митингам команды")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @Operation(
+            summary = "Поиск задач",
+            description = "Ищет задачи команды по названию и описанию. Результаты отсортированы по релевантности, " +
+                          "совпадения выделены тегами <b>. Поддерживается синтаксис websearch: \"фраза\", OR, -слово",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Результаты поиска получены",
+                            content = @Content(schema = @Schema(implementation = SearchResultResponse.class))),
+                    @ApiResponse(responseCode = "403", description = "Доступ запрещен")
+            }
+    )
+    @GetMapping("/tasks")
+    public ResponseEntity<List<SearchResultResponse>> searchTasks(
+            @AuthenticationPrincipal User user,
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(searchService.searchTasks(user, query, page, size));
+    }
+
+    @Operation(
+            summary = "Поиск митингов",
+            description = "Ищет митинги команды по транскрипту и итогам. Результаты отсортированы по релевантности, " +
+                          "совпадения выделены тегами <b>",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Результаты поиска получены",
+                            content = @Content(schema = @Schema(implementation = SearchResultResponse.class))),
+                    @ApiResponse(responseCode = "403", description = "Доступ запрещен")
+            }
+    )
+    @GetMapping("/meetings")
+    public ResponseEntity<List<SearchResultResponse>> searchMeetings(
+            @AuthenticationPrincipal User user,
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(searchService.searchMeetings(user, query, page, size));
+    }
+}
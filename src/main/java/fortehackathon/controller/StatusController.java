@@ -3,15 +3,18 @@ package fortehackathon.controller;
 import fortehackathon.dto.StatusOverviewResponse;
 import fortehackathon.entity.User;
 import fortehackathon.service.StatusService;
+import fortehackathon.service.TeamVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/status")
@@ -19,7 +22,10 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Статус", description = "Методы для получения статуса системы и обзора")
 public class StatusController {
 
+    private static final long OVERVIEW_ETAG_WINDOW_MS = 60_000;
+
     private final StatusService statusService;
+    private final TeamVersionService teamVersionService;
 
     @Operation(
             summary = "Получение обзора статуса",
@@ -28,11 +34,22 @@ public class StatusController {
             responses = {
                     @ApiResponse(responseCode = "200", description = "Обзор статуса успешно получен",
                             content = @Content(schema = @Schema(implementation = StatusOverviewResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "Данные не изменились"),
                     @ApiResponse(responseCode = "403", description = "Доступ запрещен для текущего пользователя")
             }
     )
     @GetMapping("/overview")
-    public ResponseEntity<StatusOverviewResponse> getOverview(@AuthenticationPrincipal User user) {
-        return ResponseEntity.ok(statusService.getOverview(user));
+    public ResponseEntity<StatusOverviewResponse> getOverview(@AuthenticationPrincipal User user, WebRequest webRequest) {
+        // overdue counts move with the clock, so the tag also rolls over every minute
+        String etag = teamVersionService.etag(user, "overview",
+                String.valueOf(System.currentTimeMillis() / OVERVIEW_ETAG_WINDOW_MS));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(statusService.getOverview(user));
     }
 }
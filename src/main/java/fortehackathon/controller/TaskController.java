@@ -3,16 +3,23 @@ package fortehackathon.controller;
 import fortehackathon.dto.*;
 import fortehackathon.entity.User;
 import fortehackathon.service.TaskService;
+import fortehackathon.service.TeamVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -22,6 +29,7 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TeamVersionService teamVersionService;
 
     @Operation(
             summary = "Создание новой задачи",
@@ -59,19 +67,56 @@ public class TaskController {
 
     @Operation(
             summary = "Получение списка задач",
-            description = "Возвращает список задач пользователя. Можно фильтровать по статусу",
+            description = "Возвращает страницу задач команды, отсортированных по дате создания (сначала новые). " +
+                          "Можно фильтровать по статусу, исполнителю, приоритету и диапазону дедлайнов. " +
+                          "Если есть следующая страница, её курсор возвращается в заголовках Link (rel=\"next\") " +
+                          "и X-Next-Cursor. Поддерживает If-None-Match: если данные команды не менялись, " +
+                          "возвращается 304",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Список задач успешно получен",
                             content = @Content(schema = @Schema(implementation = TaskResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "Данные не изменились"),
                     @ApiResponse(responseCode = "403", description = "Доступ запрещен")
             }
     )
     @GetMapping
     public ResponseEntity<List<TaskResponse>> getTasks(
             @AuthenticationPrincipal User user,
-            @RequestParam(required = false) String status
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deadlineFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deadlineTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            ServletWebRequest webRequest
     ) {
-        return ResponseEntity.ok(taskService.getTasks(user, status));
+        String etag = teamVersionService.etag(user, "tasks", webRequest.getRequest().getQueryString());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        var filter = TaskFilter.builder()
+                .status(status)
+                .assigneeId(assigneeId)
+                .priority(priority)
+                .deadlineFrom(deadlineFrom)
+                .deadlineTo(deadlineTo)
+                .build();
+
+        TaskPageResponse page = taskService.getTasks(user, filter, cursor, limit);
+
+        var response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache());
+        if (page.getNextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.getNextCursor())
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+            response.header("X-Next-Cursor", page.getNextCursor());
+        }
+        return response.body(page.getTasks());
     }
 
     @Operation(
@@ -92,6 +137,25 @@ public class TaskController {
         return ResponseEntity.ok(taskService.getTask(user, taskId));
     }
 
+    @Operation(
+            summary = "Массовое обновление задач",
+            description = "Обновляет до 500 задач за один запрос. Изменения статусов отправляются в Jira " +
+                          "через bulk transition API. Для каждой задачи возвращается результат: " +
+                          "UPDATED, FAILED или JIRA_SYNC_FAILED",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Запрос обработан, см. результаты по задачам",
+                            content = @Content(schema = @Schema(implementation = BulkUpdateResponse.class))),
+                    @ApiResponse(responseCode = "403", description = "Доступ запрещен")
+            }
+    )
+    @PutMapping("/bulk")
+    public ResponseEntity<BulkUpdateResponse> bulkUpdateTasks(
+            @AuthenticationPrincipal User user,
+            @RequestBody BulkUpdateTaskRequest request
+    ) {
+        return ResponseEntity.ok(taskService.bulkUpdateTasks(user, request));
+    }
+
     @Operation(
             summary = "Обновление задачи",
             description = "Позволяет обновить поля существующей задачи",
@@ -3,15 +3,18 @@ package fortehackathon.controller;
 import fortehackathon.dto.*;
 import fortehackathon.entity.User;
 import fortehackathon.service.TeamService;
+import fortehackathon.service.TeamVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,6 +25,7 @@ import java.util.List;
 public class TeamController {
 
     private final TeamService teamService;
+    private final TeamVersionService teamVersionService;
 
     @Operation(
             summary = "Создание команды",
@@ -59,16 +63,25 @@ public class TeamController {
 
     @Operation(
             summary = "Получение информации о команде",
-            description = "Возвращает данные о команде пользователя",
+            description = "Возвращает данные о команде пользователя. Поддерживает If-None-Match",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Информация о команде успешно получена",
                             content = @Content(schema = @Schema(implementation = TeamResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "Данные не изменились"),
                     @ApiResponse(responseCode = "403", description = "Доступ запрещен")
             }
     )
     @GetMapping
-    public ResponseEntity<TeamResponse> getTeam(@AuthenticationPrincipal User user) {
-        return ResponseEntity.ok(teamService.getTeam(user));
+    public ResponseEntity<TeamResponse> getTeam(@AuthenticationPrincipal User user, WebRequest webRequest) {
+        String etag = teamVersionService.etag(user, "team", null);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(teamService.getTeam(user));
     }
 
     @Operation(
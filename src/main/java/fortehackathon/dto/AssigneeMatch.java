@@ -0,0 +1,13 @@
+package fortehackathon.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class AssigneeMatch {
+    private Long userId;
+    private String username;
+    private double confidence;
+    private String matchedBy;
+}
@@ -0,0 +1,13 @@
+package fortehackathon.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BatchJob {
+    private String id;
+    private String status;
+    private String outputFileId;
+    private String errorFileId;
+}
@@ -0,0 +1,11 @@
+package fortehackathon.dto;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class BulkTaskUpdate extends UpdateTaskRequest {
+
+    private Long taskId;
+}
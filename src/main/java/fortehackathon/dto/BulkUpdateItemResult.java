@@ -0,0 +1,13 @@
+package fortehackathon.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BulkUpdateItemResult {
+    private Long taskId;
+    private String status;
+    private String error;
+    private TaskResponse task;
+}
@@ -0,0 +1,14 @@
+package fortehackathon.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BulkUpdateResponse {
+    private Integer updated;
+    private Integer failed;
+    private List<BulkUpdateItemResult> results;
+}
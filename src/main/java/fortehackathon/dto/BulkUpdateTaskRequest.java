@@ -0,0 +1,11 @@
+package fortehackathon.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkUpdateTaskRequest {
+
+    private List<BulkTaskUpdate> updates;
+}
@@ -0,0 +1,13 @@
+package fortehackathon.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class MeetingPageResponse {
+    private List<MeetingSummaryResponse> meetings;
+    private String nextCursor;
+}
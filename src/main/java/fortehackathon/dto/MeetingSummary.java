@@ -0,0 +1,14 @@
+package fortehackathon.dto;
+
+import fortehackathon.entity.ProcessingStatus;
+
+import java.time.LocalDateTime;
+
+public interface MeetingSummary {
+    Long getId();
+    String getFileName();
+    ProcessingStatus getStatus();
+    LocalDateTime getUploadedAt();
+    LocalDateTime getProcessedAt();
+    Long getTaskCount();
+}
@@ -0,0 +1,17 @@
+package fortehackathon.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class MeetingSummaryResponse {
+    private Long id;
+    private String fileName;
+    private String status;
+    private LocalDateTime uploadedAt;
+    private LocalDateTime processedAt;
+    private Long taskCount;
+}
@@ -8,4 +8,6 @@ import java.time.LocalDateTime;
 public class MeetingTranscriptRequest {
     private String transcript;
     private LocalDateTime meetingDate;
+    // extract through the OpenAI Batch API instead of right away, for bulk imports of old meetings
+    private Boolean batch;
 }
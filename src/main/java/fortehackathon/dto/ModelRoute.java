@@ -0,0 +1,14 @@
+package fortehackathon.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ModelRoute {
+    private String endpoint;
+    private String model;
+    private int maxTokens;
+    private int inputTokens;
+    private int expectedTasks;
+}
@@ -0,0 +1,13 @@
+package fortehackathon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class OverdueDigest {
+    private Long telegramId;
+    private List<String> lines;
+}
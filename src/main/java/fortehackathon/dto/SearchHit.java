@@ -0,0 +1,10 @@
+package fortehackathon.dto;
+
+public interface SearchHit {
+    Long getId();
+    String getKey();
+    String getTitle();
+    String getStatus();
+    Double getRank();
+    String getHighlight();
+}
@@ -0,0 +1,16 @@
+package fortehackathon.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SearchResultResponse {
+    private String type;
+    private Long id;
+    private String key;
+    private String title;
+    private String status;
+    private Double rank;
+    private String highlight;
+}
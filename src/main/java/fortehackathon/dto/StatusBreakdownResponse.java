@@ -0,0 +1,16 @@
+package fortehackathon.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class StatusBreakdownResponse {
+    private String name;
+    private Integer total;
+    private Integer completed;
+    private Integer inProgress;
+    private Integer todo;
+    private Integer blocked;
+    private Integer overdue;
+}
@@ -3,12 +3,18 @@ package fortehackathon.dto;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 @Builder
 public class StatusOverviewResponse {
+    private Integer total;
     private Integer completed;
     private Integer inProgress;
     private Integer todo;
+    private Integer blocked;
     private Integer overdue;
+    private List<StatusBreakdownResponse> byAssignee;
+    private List<StatusBreakdownResponse> byPriority;
     private String updatedAt;
-}
\ No newline at end of file
+}
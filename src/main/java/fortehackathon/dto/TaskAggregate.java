@@ -0,0 +1,12 @@
+package fortehackathon.dto;
+
+import fortehackathon.entity.Priority;
+import fortehackathon.entity.TaskStatus;
+
+public interface TaskAggregate {
+    TaskStatus getStatus();
+    Priority getPriority();
+    Long getAssigneeId();
+    String getAssignee();
+    Long getTotal();
+}
@@ -0,0 +1,16 @@
+package fortehackathon.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class TaskFilter {
+    private String status;
+    private Long assigneeId;
+    private String priority;
+    private LocalDateTime deadlineFrom;
+    private LocalDateTime deadlineTo;
+}
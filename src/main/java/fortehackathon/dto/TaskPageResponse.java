@@ -0,0 +1,13 @@
+package fortehackathon.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class TaskPageResponse {
+    private List<TaskResponse> tasks;
+    private String nextCursor;
+}
@@ -0,0 +1,73 @@
+package fortehackathon.dto;
+
+import fortehackathon.util.AssigneeIndex;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// immutable snapshot of a team's membership, shared between requests until the roster version changes
+@Getter
+public class TeamRoster {
+
+    public record Member(Long id, String username, String email, String role, String jiraUsername) {
+    }
+
+    private final Long teamId;
+    private final long version;
+    private final List<Member> members;
+    private final List<String> usernames;
+    private final TeamResponse team;
+    private final List<TeamMemberResponse> memberResponses;
+    private final Map<Long, Member> byId;
+    private final Map<String, Member> byUsername;
+    @Getter(AccessLevel.NONE)
+    private final AssigneeIndex assigneeIndex;
+
+    public TeamRoster(Long teamId, long version, String name, String projectManager,
+                      String jiraProjectKey, List<Member> members) {
+        this.teamId = teamId;
+        this.version = version;
+        this.members = List.copyOf(members);
+        this.usernames = members.stream().map(Member::username).toList();
+        this.memberResponses = members.stream()
+                .map(m -> TeamMemberResponse.builder()
+                        .id(m.id())
+                        .username(m.username())
+                        .role(m.role())
+                        .email(m.email())
+                        .build())
+                .toList();
+        this.team = TeamResponse.builder()
+                .id(teamId)
+                .name(name)
+                .projectManager(projectManager)
+                .members(memberResponses)
+                .jiraProjectKey(jiraProjectKey)
+                .build();
+        this.byId = Collections.unmodifiableMap(members.stream()
+                .collect(Collectors.toMap(Member::id, Function.identity())));
+        this.byUsername = Collections.unmodifiableMap(members.stream()
+                .collect(Collectors.toMap(Member::username, Function.identity(), (a, b) -> a)));
+        this.assigneeIndex = new AssigneeIndex(this.members);
+    }
+
+    public Optional<Member> findByUsername(String username) {
+        return Optional.ofNullable(username).map(byUsername::get);
+    }
+
+    public Optional<Member> findById(Long id) {
+        return Optional.ofNullable(id).map(byId::get);
+    }
+
+    // fuzzy match of names as the LLM writes them ("Aidar", "Айдар К.") against usernames like "aidar.k@corp"
+    public Optional<AssigneeMatch> resolveAssignee(String name) {
+        return assigneeIndex.match(name);
+    }
+
+    public Map<String, AssigneeMatch> resolveAssignees(Collection<String> names) {
+        return assigneeIndex.matchAll(names);
+    }
+}
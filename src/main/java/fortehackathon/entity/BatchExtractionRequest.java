@@ -0,0 +1,28 @@
+package fortehackathon.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "batch_extraction_requests")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchExtractionRequest {
+
+    @Id
+    private Long meetingId;
+
+    // tasks are created with this user's Jira credentials once the batch completes
+    private String username;
+
+    private Long batchId;
+
+    private LocalDateTime createdAt;
+}
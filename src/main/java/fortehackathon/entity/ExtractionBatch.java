@@ -0,0 +1,39 @@
+package fortehackathon.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "extraction_batches")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExtractionBatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String externalId;
+
+    private String inputFileId;
+
+    private String outputFileId;
+
+    private String errorFileId;
+
+    // as reported by the Batch API: validating, in_progress, finalizing, completed, failed, expired, ...
+    private String status;
+
+    private Integer requestCount;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+}
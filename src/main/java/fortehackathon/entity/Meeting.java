@@ -18,10 +18,11 @@ import java.util.List;
 public class Meeting {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meetings_seq")
+    @SequenceGenerator(name = "meetings_seq", sequenceName = "meetings_id_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id")
     private Team team;
 
@@ -29,9 +30,6 @@ public class Meeting {
 
     private String fileUrl;
 
-    @Column(columnDefinition = "TEXT")
-    private String transcription;
-
     @Column(columnDefinition = "TEXT")
     private String summary;
 
@@ -42,6 +40,14 @@ public class Meeting {
 
     private LocalDateTime processedAt;
 
+    private LocalDateTime updatedAt;
+
     @Enumerated(EnumType.STRING)
     private ProcessingStatus processingStatus;
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = LocalDateTime.now();
+    }
 }
\ No newline at end of file
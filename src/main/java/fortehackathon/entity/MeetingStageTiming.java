@@ -0,0 +1,36 @@
+package fortehackathon.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "meeting_stage_timings")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingStageTiming {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meeting_stage_timings_seq")
+    @SequenceGenerator(name = "meeting_stage_timings_seq", sequenceName = "meeting_stage_timings_id_seq",
+            allocationSize = 50)
+    private Long id;
+
+    private Long meetingId;
+
+    private String stage;
+
+    private LocalDateTime startedAt;
+
+    private Long durationMs;
+
+    private Integer calls;
+
+    private String outcome;
+}
@@ -0,0 +1,32 @@
+package fortehackathon.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "meeting_transcripts")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingTranscript {
+
+    @Id
+    private Long meetingId;
+
+    private String encoding;
+
+    private Integer originalSize;
+
+    private Integer compressedSize;
+
+    @Column(columnDefinition = "BYTEA")
+    private byte[] content;
+
+    private LocalDateTime createdAt;
+}
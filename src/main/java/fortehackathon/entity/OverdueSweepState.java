@@ -0,0 +1,23 @@
+package fortehackathon.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "overdue_sweep_state")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OverdueSweepState {
+
+    @Id
+    private String name;
+
+    private LocalDateTime updatedAt;
+}
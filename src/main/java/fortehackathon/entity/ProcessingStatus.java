@@ -2,6 +2,7 @@ package fortehackathon.entity;
 
 public enum ProcessingStatus {
     UPLOADED,
+    QUEUED,
     PROCESSING,
     COMPLETED,
     FAILED
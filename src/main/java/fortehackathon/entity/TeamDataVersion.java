@@ -0,0 +1,23 @@
+package fortehackathon.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "team_data_versions")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamDataVersion {
+
+    @Id
+    private Long teamId;
+
+    private Long version;
+
+    private Long rosterVersion;
+}
@@ -0,0 +1,13 @@
+package fortehackathon.event;
+
+import fortehackathon.entity.ProcessingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MeetingProgressEvent {
+    private final Long teamId;
+    private final Long meetingId;
+    private final ProcessingStatus status;
+}
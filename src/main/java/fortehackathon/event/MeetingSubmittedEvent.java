@@ -0,0 +1,17 @@
+package fortehackathon.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class MeetingSubmittedEvent {
+    private final Long meetingId;
+    private final String username;
+    private final byte[] audio;
+    private final String transcript;
+    // queue wait is measured from here to the start of processing
+    private final Instant submittedAt;
+}
@@ -0,0 +1,13 @@
+package fortehackathon.event;
+
+import fortehackathon.dto.OverdueDigest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class OverdueTasksEvent {
+    private final List<OverdueDigest> digests;
+}
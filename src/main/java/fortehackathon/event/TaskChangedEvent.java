@@ -0,0 +1,19 @@
+package fortehackathon.event;
+
+import fortehackathon.dto.TaskResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TaskChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED
+    }
+
+    private final Long teamId;
+    private final Type type;
+    private final TaskResponse task;
+}
@@ -0,0 +1,10 @@
+package fortehackathon.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TeamMembershipChangedEvent {
+    private final Long teamId;
+}
@@ -0,0 +1,140 @@
+package fortehackathon.grpc;
+
+import fortehackathon.entity.User;
+import fortehackathon.service.CustomUserDetailsService;
+import fortehackathon.service.JwtService;
+import io.grpc.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.grpc.server.GlobalServerInterceptor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@GlobalServerInterceptor
+@RequiredArgsConstructor
+public class GrpcAuthInterceptor implements ServerInterceptor {
+
+    public static final Context.Key<User> USER = Context.key("forte-user");
+
+    static final Attributes.Key<String> CONNECTION_ID = Attributes.Key.create("forte-connection-id");
+
+    private static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final JwtService jwtService;
+    private final CustomUserDetailsService userDetailsService;
+
+    // the JWT is verified once per connection, later calls on the same channel reuse the session
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call,
+            Metadata headers,
+            ServerCallHandler<ReqT, RespT> next
+    ) {
+        String connectionId = call.getAttributes().get(CONNECTION_ID);
+        String authHeader = headers.get(AUTHORIZATION);
+
+        Session session = connectionId != null ? sessions.get(connectionId) : null;
+        if (authHeader != null && authHeader.startsWith("Bearer ")
+            && (session == null || !session.token().equals(authHeader))) {
+            session = authenticate(authHeader);
+            if (session != null && connectionId != null) {
+                sessions.put(connectionId, session);
+            }
+        }
+
+        if (session == null || session.expiresAt().isBefore(Instant.now())) {
+            if (connectionId != null) {
+                sessions.remove(connectionId);
+            }
+            call.close(Status.UNAUTHENTICATED.withDescription("Missing or expired token"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        User user;
+        try {
+            user = userDetailsService.loadUser(session.username());
+        } catch (UsernameNotFoundException e) {
+            call.close(Status.UNAUTHENTICATED.withDescription("User not found"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        var listener = Contexts.interceptCall(Context.current().withValue(USER, user), call, headers, next);
+
+        // expose the caller to code keyed on the Spring Security principal, e.g. read-your-writes routing
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            @Override
+            public void onMessage(ReqT message) {
+                runAs(authentication, () -> super.onMessage(message));
+            }
+
+            @Override
+            public void onHalfClose() {
+                runAs(authentication, () -> super.onHalfClose());
+            }
+        };
+    }
+
+    private static void runAs(Authentication authentication, Runnable action) {
+        var context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        try {
+            action.run();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    public ServerTransportFilter transportFilter() {
+        return new ServerTransportFilter() {
+            @Override
+            public Attributes transportReady(Attributes transportAttrs) {
+                return transportAttrs.toBuilder()
+                        .set(CONNECTION_ID, UUID.randomUUID().toString())
+                        .build();
+            }
+
+            @Override
+            public void transportTerminated(Attributes transportAttrs) {
+                String connectionId = transportAttrs.get(CONNECTION_ID);
+                if (connectionId != null) {
+                    sessions.remove(connectionId);
+                }
+            }
+        };
+    }
+
+    private Session authenticate(String authHeader) {
+        String jwt = authHeader.substring(7);
+        try {
+            String username = jwtService.extractUsername(jwt);
+            if (username == null || !jwtService.validateToken(jwt, username)) {
+                return null;
+            }
+            return new Session(authHeader, username, jwtService.extractExpiration(jwt).toInstant());
+
+        } catch (Exception e) {
+            log.debug("Rejected gRPC token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private record Session(String token, String username, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,50 @@
+package fortehackathon.grpc;
+
+import fortehackathon.entity.User;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.Function;
+
+@Slf4j
+final class GrpcCalls {
+
+    private GrpcCalls() {
+    }
+
+    static <T> void unary(StreamObserver<T> observer, Function<User, T> call) {
+        T response;
+        try {
+            response = call.apply(GrpcAuthInterceptor.USER.get());
+        } catch (RuntimeException e) {
+            observer.onError(toStatus(e));
+            return;
+        }
+        observer.onNext(response);
+        observer.onCompleted();
+    }
+
+    // services signal errors with plain RuntimeExceptions, map the known messages onto status codes
+    static StatusRuntimeException toStatus(RuntimeException e) {
+        if (e instanceof StatusRuntimeException statusException) {
+            return statusException;
+        }
+
+        String message = e.getMessage() != null ? e.getMessage() : "";
+        Status status;
+        if (message.contains("not found")) {
+            status = Status.NOT_FOUND;
+        } else if (message.startsWith("Access denied") || message.startsWith("Only Project Managers")
+                   || message.startsWith("You are not part of any team")) {
+            status = Status.PERMISSION_DENIED;
+        } else if (e instanceof IllegalArgumentException) {
+            status = Status.INVALID_ARGUMENT;
+        } else {
+            log.error("gRPC call failed", e);
+            status = Status.INTERNAL;
+        }
+        return status.withDescription(message).asRuntimeException();
+    }
+}
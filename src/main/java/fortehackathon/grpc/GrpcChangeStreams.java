@@ -0,0 +1,204 @@
+package fortehackathon.grpc;
+
+import fortehackathon.entity.ProcessingStatus;
+import fortehackathon.entity.User;
+import fortehackathon.event.MeetingProgressEvent;
+import fortehackathon.event.TaskChangedEvent;
+import fortehackathon.grpc.proto.MeetingAnalysis;
+import fortehackathon.grpc.proto.TaskChange;
+import fortehackathon.service.MeetingService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GrpcChangeStreams {
+
+    private final MeetingService meetingService;
+
+    private final Map<Long, Set<Subscriber<TaskChange>>> taskSubscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber<MeetingAnalysis>>> meetingSubscribers = new ConcurrentHashMap<>();
+
+    // messages held per subscriber while its stream is not ready, a client further behind is closed
+    @Value("${grpc-streams.max-queued-messages:256}")
+    private int maxQueuedMessages;
+
+    public void watchTasks(User user, StreamObserver<TaskChange> observer) {
+        register(taskSubscribers, user.getTeam().getId(), new Subscriber<>(user, observer, maxQueuedMessages));
+    }
+
+    public void watchMeeting(User user, Long meetingId, StreamObserver<MeetingAnalysis> observer) {
+        var subscriber = new Subscriber<>(user, observer, maxQueuedMessages);
+        // subscribe before reading the current state so no transition is missed in between
+        register(meetingSubscribers, meetingId, subscriber);
+
+        MeetingAnalysis current;
+        try {
+            current = GrpcMapper.toMeetingAnalysis(meetingService.getMeetingStatus(user, meetingId));
+        } catch (RuntimeException e) {
+            remove(meetingSubscribers, meetingId, subscriber);
+            throw e;
+        }
+
+        subscriber.send(current);
+        if (isTerminal(current.getStatus())) {
+            complete(meetingSubscribers, meetingId, subscriber);
+        }
+    }
+
+    // task changes are only visible to other clients once they are committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        var subscribers = taskSubscribers.get(event.getTeamId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        var change = TaskChange.newBuilder()
+                .setType(TaskChange.ChangeType.valueOf(event.getType().name()))
+                .setTask(GrpcMapper.toTaskView(event.getTask()))
+                .build();
+
+        subscribers.forEach(subscriber -> subscriber.send(change));
+    }
+
+    // progress is pushed as it happens, the processing transaction spans the whole pipeline
+    @EventListener
+    public void onMeetingProgress(MeetingProgressEvent event) {
+        var subscribers = meetingSubscribers.get(event.getMeetingId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        boolean terminal = isTerminal(event.getStatus().name());
+        for (var subscriber : subscribers) {
+            try {
+                var analysis = terminal
+                        ? GrpcMapper.toMeetingAnalysis(meetingService.getMeetingStatus(subscriber.user, event.getMeetingId()))
+                        : MeetingAnalysis.newBuilder()
+                                .setMeetingId(event.getMeetingId())
+                                .setStatus(event.getStatus().name())
+                                .build();
+                subscriber.send(analysis);
+                if (terminal) {
+                    complete(meetingSubscribers, event.getMeetingId(), subscriber);
+                }
+            } catch (RuntimeException e) {
+                remove(meetingSubscribers, event.getMeetingId(), subscriber);
+                subscriber.fail(e);
+            }
+        }
+    }
+
+    private <T> void register(Map<Long, Set<Subscriber<T>>> registry, Long key, Subscriber<T> subscriber) {
+        subscriber.onOverflow = () -> remove(registry, key, subscriber);
+        registry.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        if (subscriber.observer instanceof ServerCallStreamObserver<T> callObserver) {
+            callObserver.setOnCancelHandler(() -> remove(registry, key, subscriber));
+            callObserver.setOnReadyHandler(subscriber::drain);
+        }
+    }
+
+    private <T> void complete(Map<Long, Set<Subscriber<T>>> registry, Long key, Subscriber<T> subscriber) {
+        remove(registry, key, subscriber);
+        subscriber.complete();
+    }
+
+    private <T> void remove(Map<Long, Set<Subscriber<T>>> registry, Long key, Subscriber<T> subscriber) {
+        registry.computeIfPresent(key, (k, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private boolean isTerminal(String status) {
+        return ProcessingStatus.COMPLETED.name().equals(status) || ProcessingStatus.FAILED.name().equals(status);
+    }
+
+    private static class Subscriber<T> {
+        private final User user;
+        private final StreamObserver<T> observer;
+        private final int maxQueued;
+        private final ArrayDeque<T> queued = new ArrayDeque<>();
+        private Runnable onOverflow = () -> {};
+        private boolean completing;
+        private boolean closed;
+
+        Subscriber(User user, StreamObserver<T> observer, int maxQueued) {
+            this.user = user;
+            this.observer = observer;
+            this.maxQueued = maxQueued;
+        }
+
+        // StreamObserver is not thread safe, events can arrive from several request threads at once
+        synchronized void send(T message) {
+            if (closed || completing) {
+                return;
+            }
+            if (queued.size() >= maxQueued) {
+                log.debug("Closing gRPC subscriber, {} messages queued behind a stream that is not ready", queued.size());
+                queued.clear();
+                closed = true;
+                onOverflow.run();
+                observer.onError(Status.RESOURCE_EXHAUSTED
+                        .withDescription("Client is not reading the stream fast enough")
+                        .asRuntimeException());
+                return;
+            }
+            queued.add(message);
+            drain();
+        }
+
+        // called on send and by gRPC once the transport can take more, onNext past isReady() would buffer unbounded
+        synchronized void drain() {
+            try {
+                while (!closed && !queued.isEmpty() && isReady()) {
+                    observer.onNext(queued.poll());
+                }
+            } catch (RuntimeException e) {
+                log.debug("Dropping gRPC subscriber: {}", e.getMessage());
+                queued.clear();
+                closed = true;
+                return;
+            }
+            if (completing && !closed && queued.isEmpty()) {
+                closed = true;
+                observer.onCompleted();
+            }
+        }
+
+        // the final message may still be queued, the stream completes once it has been sent
+        synchronized void complete() {
+            if (!closed) {
+                completing = true;
+                drain();
+            }
+        }
+
+        synchronized void fail(RuntimeException e) {
+            if (!closed) {
+                queued.clear();
+                closed = true;
+                observer.onError(GrpcCalls.toStatus(e));
+            }
+        }
+
+        private boolean isReady() {
+            return !(observer instanceof ServerCallStreamObserver<T> callObserver) || callObserver.isReady();
+        }
+    }
+}
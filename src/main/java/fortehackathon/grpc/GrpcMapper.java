@@ -0,0 +1,109 @@
+package fortehackathon.grpc;
+
+import com.google.protobuf.Timestamp;
+import fortehackathon.dto.MeetingAnalysisResponse;
+import fortehackathon.dto.StatusBreakdownResponse;
+import fortehackathon.dto.StatusOverviewResponse;
+import fortehackathon.dto.TaskResponse;
+import fortehackathon.grpc.proto.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+final class GrpcMapper {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private GrpcMapper() {
+    }
+
+    static TaskView toTaskView(TaskResponse task) {
+        var builder = TaskView.newBuilder()
+                .setId(task.getId());
+        if (task.getKey() != null) {
+            builder.setKey(task.getKey());
+        }
+        if (task.getSummary() != null) {
+            builder.setSummary(task.getSummary());
+        }
+        if (task.getDescription() != null) {
+            builder.setDescription(task.getDescription());
+        }
+        if (task.getAssignee() != null) {
+            builder.setAssignee(task.getAssignee());
+        }
+        if (task.getStatus() != null) {
+            builder.setStatus(task.getStatus());
+        }
+        if (task.getPriority() != null) {
+            builder.setPriority(task.getPriority());
+        }
+        if (task.getDeadline() != null) {
+            builder.setDeadline(toTimestamp(task.getDeadline()));
+        }
+        if (task.getUrl() != null) {
+            builder.setUrl(task.getUrl());
+        }
+        if (task.getCreatedAt() != null) {
+            builder.setCreatedAt(toTimestamp(task.getCreatedAt()));
+        }
+        return builder.build();
+    }
+
+    static MeetingAnalysis toMeetingAnalysis(MeetingAnalysisResponse response) {
+        var builder = MeetingAnalysis.newBuilder()
+                .setMeetingId(response.getMeetingId())
+                .setStatus(response.getStatus());
+        if (response.getMessage() != null) {
+            builder.setMessage(response.getMessage());
+        }
+        if (response.getTasks() != null) {
+            response.getTasks().forEach(task -> builder.addTasks(toTaskView(task)));
+        }
+        if (response.getProcessedAt() != null) {
+            builder.setProcessedAt(toTimestamp(response.getProcessedAt()));
+        }
+        return builder.build();
+    }
+
+    static StatusOverview toStatusOverview(StatusOverviewResponse response) {
+        var builder = StatusOverview.newBuilder()
+                .setTotal(response.getTotal())
+                .setCompleted(response.getCompleted())
+                .setInProgress(response.getInProgress())
+                .setTodo(response.getTodo())
+                .setBlocked(response.getBlocked())
+                .setOverdue(response.getOverdue())
+                .setUpdatedAt(response.getUpdatedAt());
+        response.getByAssignee().forEach(b -> builder.addByAssignee(toBreakdown(b)));
+        response.getByPriority().forEach(b -> builder.addByPriority(toBreakdown(b)));
+        return builder.build();
+    }
+
+    static Timestamp toTimestamp(LocalDateTime value) {
+        var instant = value.atZone(ZONE).toInstant();
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+
+    static LocalDateTime toLocalDateTime(Timestamp value) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(value.getSeconds(), value.getNanos()), ZONE);
+    }
+
+    private static StatusBreakdown toBreakdown(StatusBreakdownResponse response) {
+        var builder = StatusBreakdown.newBuilder()
+                .setTotal(response.getTotal())
+                .setCompleted(response.getCompleted())
+                .setInProgress(response.getInProgress())
+                .setTodo(response.getTodo())
+                .setBlocked(response.getBlocked())
+                .setOverdue(response.getOverdue());
+        if (response.getName() != null) {
+            builder.setName(response.getName());
+        }
+        return builder.build();
+    }
+}
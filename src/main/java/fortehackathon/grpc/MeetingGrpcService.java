@@ -0,0 +1,47 @@
+package fortehackathon.grpc;
+
+import fortehackathon.dto.MeetingTranscriptRequest;
+import fortehackathon.grpc.proto.*;
+import fortehackathon.service.MeetingService;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class MeetingGrpcService extends MeetingRpcGrpc.MeetingRpcImplBase {
+
+    private final MeetingService meetingService;
+    private final GrpcChangeStreams changeStreams;
+
+    @Override
+    public void analyzeMeeting(AnalyzeMeetingRequest request, StreamObserver<MeetingAnalysis> observer) {
+        GrpcCalls.unary(observer, user -> GrpcMapper.toMeetingAnalysis(
+                meetingService.analyzeMeeting(user, request.getFileName(), request.getAudio().toByteArray())));
+    }
+
+    @Override
+    public void analyzeTranscript(AnalyzeTranscriptRequest request, StreamObserver<MeetingAnalysis> observer) {
+        GrpcCalls.unary(observer, user -> {
+            var dto = new MeetingTranscriptRequest();
+            dto.setTranscript(request.getTranscript());
+            dto.setMeetingDate(request.hasMeetingDate() ? GrpcMapper.toLocalDateTime(request.getMeetingDate()) : null);
+            return GrpcMapper.toMeetingAnalysis(meetingService.analyzeTranscript(user, dto));
+        });
+    }
+
+    @Override
+    public void getMeetingStatus(GetMeetingStatusRequest request, StreamObserver<MeetingAnalysis> observer) {
+        GrpcCalls.unary(observer, user -> GrpcMapper.toMeetingAnalysis(
+                meetingService.getMeetingStatus(user, request.getMeetingId())));
+    }
+
+    @Override
+    public void watchMeeting(WatchMeetingRequest request, StreamObserver<MeetingAnalysis> observer) {
+        try {
+            changeStreams.watchMeeting(GrpcAuthInterceptor.USER.get(), request.getMeetingId(), observer);
+        } catch (RuntimeException e) {
+            observer.onError(GrpcCalls.toStatus(e));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package fortehackathon.grpc;
+
+import fortehackathon.grpc.proto.GetOverviewRequest;
+import fortehackathon.grpc.proto.StatusOverview;
+import fortehackathon.grpc.proto.StatusRpcGrpc;
+import fortehackathon.service.StatusService;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class StatusGrpcService extends StatusRpcGrpc.StatusRpcImplBase {
+
+    private final StatusService statusService;
+
+    @Override
+    public void getOverview(GetOverviewRequest request, StreamObserver<StatusOverview> observer) {
+        GrpcCalls.unary(observer, user -> GrpcMapper.toStatusOverview(statusService.getOverview(user)));
+    }
+}
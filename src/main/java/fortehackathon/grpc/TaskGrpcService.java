@@ -0,0 +1,93 @@
+package fortehackathon.grpc;
+
+import fortehackathon.dto.CreateTaskRequest;
+import fortehackathon.dto.TaskFilter;
+import fortehackathon.dto.TextTaskRequest;
+import fortehackathon.grpc.proto.*;
+import fortehackathon.service.TaskService;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class TaskGrpcService extends TaskRpcGrpc.TaskRpcImplBase {
+
+    private final TaskService taskService;
+    private final GrpcChangeStreams changeStreams;
+
+    @Override
+    public void createTask(fortehackathon.grpc.proto.CreateTaskRequest request, StreamObserver<TaskView> observer) {
+        GrpcCalls.unary(observer, user -> {
+            var dto = new CreateTaskRequest();
+            dto.setSummary(request.getSummary());
+            dto.setDescription(request.hasDescription() ? request.getDescription() : null);
+            dto.setAssigneeId(request.hasAssigneeId() ? request.getAssigneeId() : null);
+            dto.setPriority(request.getPriority());
+            dto.setDeadline(request.hasDeadline() ? GrpcMapper.toLocalDateTime(request.getDeadline()) : null);
+            return GrpcMapper.toTaskView(taskService.createTask(user, dto));
+        });
+    }
+
+    @Override
+    public void createTaskFromText(CreateTaskFromTextRequest request, StreamObserver<TaskView> observer) {
+        GrpcCalls.unary(observer, user -> {
+            var dto = new TextTaskRequest();
+            dto.setDescription(request.getDescription());
+            return GrpcMapper.toTaskView(taskService.createTaskFromText(user, dto));
+        });
+    }
+
+    @Override
+    public void listTasks(ListTasksRequest request, StreamObserver<ListTasksResponse> observer) {
+        GrpcCalls.unary(observer, user -> {
+            var filter = TaskFilter.builder()
+                    .status(request.hasStatus() ? request.getStatus() : null)
+                    .assigneeId(request.hasAssigneeId() ? request.getAssigneeId() : null)
+                    .priority(request.hasPriority() ? request.getPriority() : null)
+                    .deadlineFrom(request.hasDeadlineFrom() ? GrpcMapper.toLocalDateTime(request.getDeadlineFrom()) : null)
+                    .deadlineTo(request.hasDeadlineTo() ? GrpcMapper.toLocalDateTime(request.getDeadlineTo()) : null)
+                    .build();
+
+            var page = taskService.getTasks(user, filter,
+                    request.hasCursor() ? request.getCursor() : null,
+                    request.hasLimit() ? request.getLimit() : null);
+
+            var response = ListTasksResponse.newBuilder();
+            page.getTasks().forEach(task -> response.addTasks(GrpcMapper.toTaskView(task)));
+            if (page.getNextCursor() != null) {
+                response.setNextCursor(page.getNextCursor());
+            }
+            return response.build();
+        });
+    }
+
+    @Override
+    public void getTask(GetTaskRequest request, StreamObserver<TaskView> observer) {
+        GrpcCalls.unary(observer, user -> GrpcMapper.toTaskView(taskService.getTask(user, request.getTaskId())));
+    }
+
+    @Override
+    public void updateTask(fortehackathon.grpc.proto.UpdateTaskRequest request, StreamObserver<TaskView> observer) {
+        GrpcCalls.unary(observer, user -> {
+            var dto = new fortehackathon.dto.UpdateTaskRequest();
+            dto.setSummary(request.hasSummary() ? request.getSummary() : null);
+            dto.setDescription(request.hasDescription() ? request.getDescription() : null);
+            dto.setStatus(request.hasStatus() ? request.getStatus() : null);
+            dto.setPriority(request.hasPriority() ? request.getPriority() : null);
+            dto.setDeadline(request.hasDeadline() ? GrpcMapper.toLocalDateTime(request.getDeadline()) : null);
+            dto.setAssigneeId(request.hasAssigneeId() ? request.getAssigneeId() : null);
+            return GrpcMapper.toTaskView(taskService.updateTask(user, request.getTaskId(), dto));
+        });
+    }
+
+    @Override
+    public void watchTasks(WatchTasksRequest request, StreamObserver<TaskChange> observer) {
+        var user = GrpcAuthInterceptor.USER.get();
+        if (user.getTeam() == null) {
+            observer.onError(GrpcCalls.toStatus(new RuntimeException("You are not part of any team")));
+            return;
+        }
+        changeStreams.watchTasks(user, observer);
+    }
+}
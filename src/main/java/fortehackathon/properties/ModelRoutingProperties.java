@@ -0,0 +1,44 @@
+package fortehackathon.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("llm.routing")
+public class ModelRoutingProperties {
+
+    // keyed by endpoint, see AIService.TASK_FROM_TEXT and AIService.MEETING_ANALYSIS
+    private Map<String, Endpoint> endpoints = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+
+        // fixed number of tasks the endpoint returns; when null it is estimated from the input size
+        private Integer expectedTasks;
+        private int inputTokensPerTask = 600;
+        private int outputTokensPerTask = 250;
+        private int outputTokensOverhead = 200;
+        // the estimate only ever raises the budget above the old fixed 1500, a truncated JSON reply is a failed call
+        private int minOutputTokens = 1500;
+        // first route whose maxInputTokens fits the prompt wins, the last one should be unbounded
+        private List<Route> routes = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String model;
+        private Integer maxInputTokens;
+        private int maxOutputTokens = 1500;
+    }
+}
@@ -0,0 +1,30 @@
+package fortehackathon.repository;
+
+import fortehackathon.entity.BatchExtractionRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BatchExtractionRequestRepository extends JpaRepository<BatchExtractionRequest, Long> {
+
+    // rows claimed by a submission on another node are skipped instead of waited for
+    @Query(value = """
+            select * from batch_extraction_requests
+            where batch_id is null
+            order by created_at
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<BatchExtractionRequest> lockPending(@Param("limit") int limit);
+
+    List<BatchExtractionRequest> findByBatchId(Long batchId);
+
+    @Modifying
+    @Query("delete from BatchExtractionRequest r where r.meetingId = :meetingId")
+    int release(@Param("meetingId") Long meetingId);
+}
@@ -0,0 +1,29 @@
+package fortehackathon.repository;
+
+import fortehackathon.entity.ExtractionBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ExtractionBatchRepository extends JpaRepository<ExtractionBatch, Long> {
+
+    List<ExtractionBatch> findByCompletedAtIsNullOrderByCreatedAt();
+
+    @Modifying
+    @Query("""
+            update ExtractionBatch b set b.status = :status, b.outputFileId = :outputFileId,
+                   b.errorFileId = :errorFileId, b.completedAt = :completedAt
+            where b.id = :id and b.completedAt is null
+            """)
+    int complete(@Param("id") Long id,
+                 @Param("status") String status,
+                 @Param("outputFileId") String outputFileId,
+                 @Param("errorFileId") String errorFileId,
+                 @Param("completedAt") LocalDateTime completedAt);
+}
@@ -1,14 +1,91 @@
 package fortehackathon.repository;
 
+import fortehackathon.dto.MeetingSummary;
+import fortehackathon.dto.SearchHit;
 import fortehackathon.entity.Meeting;
+import fortehackathon.entity.ProcessingStatus;
 import fortehackathon.entity.Team;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 
-    List<Meeting> findByTeamOrderByUploadedAtDesc(Team team);
-}
\ No newline at end of file
+    String HISTORY_SELECT = """
+            select m.id as id, m.fileName as fileName, m.processingStatus as status,
+                   m.uploadedAt as uploadedAt, m.processedAt as processedAt,
+                   (select count(t) from Task t where t.meeting = m) as taskCount
+            from Meeting m
+            where m.team = :team
+              and m.processingStatus in :statuses
+            """;
+
+    String HISTORY_ORDER = " order by m.uploadedAt desc, m.id desc";
+
+    // meetings still waiting on an OpenAI batch legitimately stay PROCESSING for up to a day
+    @Query("""
+            select m from Meeting m
+            where m.processingStatus in :statuses
+              and m.updatedAt < :before
+              and not exists (select r from BatchExtractionRequest r where r.meetingId = m.id)
+            """)
+    List<Meeting> findStale(@Param("statuses") Collection<ProcessingStatus> statuses,
+                            @Param("before") LocalDateTime before);
+
+    // keyset pages over idx_meetings_team_uploaded_id, task counts come from idx_tasks_meeting_id
+    @Query(HISTORY_SELECT + HISTORY_ORDER)
+    List<MeetingSummary> findHistory(@Param("team") Team team,
+                                     @Param("statuses") Collection<ProcessingStatus> statuses,
+                                     Pageable pageable);
+
+    @Query(HISTORY_SELECT + """
+              and (m.uploadedAt < :uploadedAt or (m.uploadedAt = :uploadedAt and m.id < :id))
+            """ + HISTORY_ORDER)
+    List<MeetingSummary> findHistoryAfter(@Param("team") Team team,
+                                          @Param("statuses") Collection<ProcessingStatus> statuses,
+                                          @Param("uploadedAt") LocalDateTime uploadedAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    @Query(nativeQuery = true, value = """
+            select m.id as id, m.file_name as key, coalesce(m.summary, m.file_name) as title,
+                   m.processing_status as status, hit.rank as rank,
+                   ts_headline('simple', coalesce(m.summary, m.file_name, ''), hit.q,
+                               'MaxFragments=3, MinWords=5, MaxWords=20, StartSel=<b>, StopSel=</b>') as highlight
+            from (
+                select m.id, cast(ts_rank(m.search_vector, q) as float8) as rank, q
+                from meetings m, websearch_to_tsquery('simple', :query) q
+                where m.team_id = :teamId and m.search_vector @@ q
+                order by rank desc, m.id desc
+                limit :limit offset :offset
+            ) hit
+            join meetings m on m.id = hit.id
+            order by hit.rank desc, m.id desc
+            """)
+    List<SearchHit> search(@Param("teamId") Long teamId, @Param("query") String query,
+                           @Param("limit") int limit, @Param("offset") long offset);
+
+    // transcripts are stored compressed, so the search vector is fed the plain text on write
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "meetings"))
+    @Query(nativeQuery = true, value = """
+            update meetings
+            set search_vector = setweight(to_tsvector('simple', coalesce(summary, '')), 'A') ||
+                                setweight(to_tsvector('simple', coalesce(:transcript, '')), 'B')
+            where id = :id
+            """)
+    void updateSearchVector(@Param("id") Long id, @Param("transcript") String transcript);
+}
@@ -0,0 +1,9 @@
+package fortehackathon.repository;
+
+import fortehackathon.entity.MeetingStageTiming;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MeetingStageTimingRepository extends JpaRepository<MeetingStageTiming, Long> {
+}
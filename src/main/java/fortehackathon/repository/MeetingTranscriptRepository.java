@@ -0,0 +1,9 @@
+package fortehackathon.repository;
+
+import fortehackathon.entity.MeetingTranscript;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MeetingTranscriptRepository extends JpaRepository<MeetingTranscript, Long> {
+}
@@ -0,0 +1,14 @@
+package fortehackathon.repository;
+
+import fortehackathon.entity.OverdueSweepState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OverdueSweepStateRepository extends JpaRepository<OverdueSweepState, String> {
+
+    @Query(value = "select pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
+}
@@ -1,20 +1,95 @@
 package fortehackathon.repository;
 
+import fortehackathon.dto.SearchHit;
+import fortehackathon.dto.TaskAggregate;
+import fortehackathon.entity.Meeting;
 import fortehackathon.entity.Task;
 import fortehackathon.entity.TaskStatus;
 import fortehackathon.entity.Team;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
 
     List<Task> findByTeam(Team team);
 
     List<Task> findByTeamAndStatus(Team team, TaskStatus status);
 
     List<Task> findByTeamAndDeadlineBefore(Team team, LocalDateTime deadline);
-}
\ No newline at end of file
+
+    @EntityGraph(attributePaths = "assignee")
+    Optional<Task> findWithAssigneeById(Long id);
+
+    @EntityGraph(attributePaths = "assignee")
+    List<Task> findWithAssigneeByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "assignee")
+    List<Task> findByMeetingOrderByCreatedAtAscIdAsc(Meeting meeting);
+
+    @Query("""
+            select t.status as status, t.priority as priority,
+                   a.id as assigneeId, a.username as assignee, count(t) as total
+            from Task t left join t.assignee a
+            where t.team = :team
+            group by t.status, t.priority, a.id, a.username
+            """)
+    List<TaskAggregate> aggregateByTeam(@Param("team") Team team);
+
+    @Query("""
+            select t.status as status, t.priority as priority,
+                   a.id as assigneeId, a.username as assignee, count(t) as total
+            from Task t left join t.assignee a
+            where t.team = :team
+              and t.deadline < :now
+              and t.status <> fortehackathon.entity.TaskStatus.DONE
+            group by t.status, t.priority, a.id, a.username
+            """)
+    List<TaskAggregate> aggregateOverdueByTeam(@Param("team") Team team, @Param("now") LocalDateTime now);
+
+    // ranks and pages on the GIN index first, headlines are only built for the returned page
+    @Query(nativeQuery = true, value = """
+            select t.id as id, t.jira_key as key, t.summary as title, t.status as status, hit.rank as rank,
+                   ts_headline('simple', t.summary || ' ' || coalesce(t.description, ''), hit.q,
+                               'MaxFragments=2, MinWords=5, MaxWords=20, StartSel=<b>, StopSel=</b>') as highlight
+            from (
+                select t.id, cast(ts_rank(t.search_vector, q) as float8) as rank, q
+                from tasks t, websearch_to_tsquery('simple', :query) q
+                where t.team_id = :teamId and t.search_vector @@ q
+                order by rank desc, t.id desc
+                limit :limit offset :offset
+            ) hit
+            join tasks t on t.id = hit.id
+            order by hit.rank desc, t.id desc
+            """)
+    List<SearchHit> search(@Param("teamId") Long teamId, @Param("query") String query,
+                           @Param("limit") int limit, @Param("offset") long offset);
+
+    // walks idx_tasks_overdue_pending, announced tasks drop out of the partial index
+    @Query("""
+            select t from Task t
+            left join fetch t.assignee
+            join fetch t.team tm
+            left join fetch tm.projectManager
+            where t.status <> fortehackathon.entity.TaskStatus.DONE
+              and t.deadline <= :now
+              and t.overdueNotifiedAt is null
+            order by t.deadline, t.id
+            """)
+    List<Task> findNewlyOverdue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("update Task t set t.overdueNotifiedAt = :now where t.id in :ids")
+    int markOverdueNotified(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+}
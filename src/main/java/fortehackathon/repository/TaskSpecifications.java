@@ -0,0 +1,56 @@
+package fortehackathon.repository;
+
+import fortehackathon.dto.TaskFilter;
+import fortehackathon.entity.Priority;
+import fortehackathon.entity.Task;
+import fortehackathon.entity.TaskStatus;
+import fortehackathon.entity.Team;
+import fortehackathon.util.KeysetCursor;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> forListing(Team team, TaskFilter filter, KeysetCursor cursor) {
+        Specification<Task> spec = (root, query, cb) -> cb.equal(root.get("team"), team);
+
+        if (filter.getStatus() != null) {
+            var status = TaskStatus.valueOf(filter.getStatus());
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), status));
+        }
+        if (filter.getAssigneeId() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.equal(root.get("assignee").get("id"), filter.getAssigneeId()));
+        }
+        if (filter.getPriority() != null) {
+            var priority = Priority.valueOf(filter.getPriority());
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("priority"), priority));
+        }
+        if (filter.getDeadlineFrom() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.greaterThanOrEqualTo(root.get("deadline"), filter.getDeadlineFrom()));
+        }
+        if (filter.getDeadlineTo() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.lessThan(root.get("deadline"), filter.getDeadlineTo()));
+        }
+        if (cursor != null) {
+            spec = spec.and(after(cursor));
+        }
+
+        return spec;
+    }
+
+    // (created_at, id) < (:createdAt, :id) for the descending keyset order
+    private static Specification<Task> after(KeysetCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.getTimestamp()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.getTimestamp()),
+                        cb.lessThan(root.get("id"), cursor.getId())
+                )
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package fortehackathon.repository;
+
+import fortehackathon.entity.TeamDataVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface TeamDataVersionRepository extends JpaRepository<TeamDataVersion, Long> {
+
+    // native DML evicts every second-level cache region unless its query spaces are declared
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "team_data_versions"))
+    @Query(nativeQuery = true, value = """
+            insert into team_data_versions (team_id, version) values (:teamId, 1)
+            on conflict (team_id) do update set version = team_data_versions.version + 1
+            """)
+    int increment(@Param("teamId") Long teamId);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "team_data_versions"))
+    @Query(nativeQuery = true, value = """
+            insert into team_data_versions (team_id, version, roster_version) values (:teamId, 0, 1)
+            on conflict (team_id) do update set roster_version = team_data_versions.roster_version + 1
+            """)
+    int incrementRoster(@Param("teamId") Long teamId);
+
+    @Query("select v.rosterVersion from TeamDataVersion v where v.teamId = :teamId")
+    Optional<Long> findRosterVersion(@Param("teamId") Long teamId);
+}
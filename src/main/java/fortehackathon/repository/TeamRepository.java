@@ -2,6 +2,7 @@ package fortehackathon.repository;
 
 import fortehackathon.entity.Team;
 import fortehackathon.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,4 +12,7 @@ import java.util.Optional;
 public interface TeamRepository extends JpaRepository<Team, Long> {
 
     Optional<Team> findByProjectManager(User pm);
+
+    @EntityGraph(attributePaths = {"projectManager", "members"})
+    Optional<Team> findWithMembersById(Long id);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package fortehackathon.repository;
 
 import fortehackathon.entity.Team;
 import fortehackathon.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,6 +11,7 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    @EntityGraph(attributePaths = "team")
     Optional<User> findByUsername(String username);
 
     Optional<User> findByTelegramId(Long telegramId);
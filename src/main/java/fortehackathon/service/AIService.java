@@ -1,34 +1,54 @@
 package fortehackathon.service;
 
+import fortehackathon.dto.ModelRoute;
 import fortehackathon.dto.TaskExtractionResult;
 import fortehackathon.prompt.RequestPrompt;
 import fortehackathon.properties.OpenAIProperties;
 import fortehackathon.util.JsonParser;
+import fortehackathon.util.TokenCounter;
+import fortehackathon.util.TranscriptCompressor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.metadata.Usage;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.ai.openai.api.ResponseFormat;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class AIService {
 
+    public static final String TASK_FROM_TEXT = "task-from-text";
+    public static final String MEETING_ANALYSIS = "meeting-analysis";
+
     private final OpenAiChatModel openAiChatModel;
     private final JsonParser jsonParser;
     private final OpenAIProperties openAIProperties;
+    private final TokenCounter tokenCounter;
+    private final ModelRouter modelRouter;
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+
+    @Value("${transcript-compression.enabled:true}")
+    private boolean transcriptCompression;
 
     public TaskExtractionResult extractTaskFromText(String text, List<String> teamMembers) {
         try {
             String prompt = RequestPrompt.buildTaskExtractionPrompt(text, teamMembers);
-            String response = callOpenAI(prompt);
+            String response = callOpenAI(TASK_FROM_TEXT, prompt);
             return jsonParser.parseTaskExtraction(response);
         } catch (Exception e) {
             log.error("Error extracting task from text", e);
@@ -41,8 +61,8 @@ public class AIService {
             List<String> teamMembers
     ) {
         try {
-            String prompt = RequestPrompt.buildMeetingAnalysisPrompt(transcription, teamMembers);
-            String response = callOpenAI(prompt);
+            String prompt = RequestPrompt.buildMeetingAnalysisPrompt(compact(transcription), teamMembers);
+            String response = callOpenAI(MEETING_ANALYSIS, prompt);
             return jsonParser.parseMultipleTasks(response);
         } catch (Exception e) {
             log.error("Error extracting tasks from transcription", e);
@@ -50,6 +70,29 @@ public class AIService {
         }
     }
 
+    // the same request extractTasksFromTranscription sends, as a chat completions body for a batch line;
+    // response_format is left out because the meeting prompt asks for a bare JSON array
+    public Map<String, Object> buildMeetingAnalysisRequest(String transcription, List<String> teamMembers) {
+        String prompt = RequestPrompt.buildMeetingAnalysisPrompt(compact(transcription), teamMembers);
+        ModelRoute route = modelRouter.route(MEETING_ANALYSIS, prompt);
+
+        return Map.of(
+                "model", route.getModel(),
+                "max_tokens", route.getMaxTokens(),
+                "temperature", 0.2,
+                "messages", List.of(Map.of("role", "user", "content", prompt))
+        );
+    }
+
+    public List<TaskExtractionResult> parseMeetingAnalysis(String response) {
+        try {
+            return jsonParser.parseMultipleTasks(response);
+        } catch (Exception e) {
+            log.error("Error parsing meeting analysis", e);
+            throw new RuntimeException("Failed to extract tasks: " + e.getMessage());
+        }
+    }
+
     public String transcribeAudio(byte[] audioData) {
         try {
             // todo add whisper logic
@@ -69,13 +112,52 @@ public class AIService {
         }
     }
 
-    private String callOpenAI(String prompt) {
+    // the stored transcript stays verbatim, only the copy sent to the model is compacted
+    private String compact(String transcription) {
+        if (!transcriptCompression) {
+            return transcription;
+        }
+
+        String compacted = TranscriptCompressor.compress(transcription);
+        int before = tokenCounter.count(transcription);
+        int after = tokenCounter.count(compacted);
+        log.info("Transcript compacted from {} to {} tokens ({}%)",
+                before, after, before == 0 ? 100 : after * 100 / before);
+        return compacted;
+    }
 
-        var response = openAiChatModel.call(new Prompt(
-                prompt,
-                getOptionsForTaskExtraction()));
+    // the observation is both the llm.call timer and the parent span of Spring AI's own chat span
+    private String callOpenAI(String endpoint, String prompt) {
+        ModelRoute route = modelRouter.route(endpoint, prompt);
+
+        return Observation.createNotStarted("llm.call", observationRegistry)
+                .contextualName("llm " + endpoint)
+                .lowCardinalityKeyValue("endpoint", endpoint)
+                .lowCardinalityKeyValue("model", route.getModel())
+                .highCardinalityKeyValue("input.tokens", String.valueOf(route.getInputTokens()))
+                .observe(() -> {
+                    var response = openAiChatModel.call(new Prompt(
+                            prompt,
+                            getOptionsForTaskExtraction(route)));
+                    recordUsage(endpoint, route.getModel(), response.getMetadata().getUsage());
+                    return response.getResult().getOutput().getText();
+                });
+    }
+
+    private void recordUsage(String endpoint, String model, Usage usage) {
+        if (usage == null) {
+            return;
+        }
+        tokenSummary(endpoint, model, "prompt").record(usage.getPromptTokens() != null ? usage.getPromptTokens() : 0);
+        tokenSummary(endpoint, model, "completion")
+                .record(usage.getCompletionTokens() != null ? usage.getCompletionTokens() : 0);
+    }
 
-        return response.getResult().getOutput().getText();
+    private DistributionSummary tokenSummary(String endpoint, String model, String type) {
+        return DistributionSummary.builder("llm.tokens")
+                .tags("endpoint", endpoint, "model", model, "type", type)
+                .baseUnit("tokens")
+                .register(meterRegistry);
     }
 
     private String taskExtractionJsonSchema() {
@@ -95,10 +177,10 @@ public class AIService {
     }
 
 
-    private OpenAiChatOptions getOptionsForTaskExtraction() {
+    private OpenAiChatOptions getOptionsForTaskExtraction(ModelRoute route) {
         return OpenAiChatOptions.builder()
-                .model("gpt-4.1-mini")
-                .maxTokens(1500)
+                .model(route.getModel())
+                .maxTokens(route.getMaxTokens())
                 .temperature(0.2)
                 .responseFormat(
                         ResponseFormat.builder()
@@ -7,10 +7,13 @@ import fortehackathon.dto.TokenValidationResponse;
 import fortehackathon.entity.Role;
 import fortehackathon.entity.Team;
 import fortehackathon.entity.User;
+import fortehackathon.event.TeamDataChangedEvent;
+import fortehackathon.event.TeamMembershipChangedEvent;
 import fortehackathon.repository.TeamRepository;
 import fortehackathon.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +30,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final JiraService jiraService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public AuthResponse authenticatePm(PMLoginRequest request) {
@@ -78,6 +82,11 @@ public class AuthService {
 
         user = userRepository.save(user);
 
+        if (team != null) {
+            eventPublisher.publishEvent(new TeamDataChangedEvent(team.getId()));
+            eventPublisher.publishEvent(new TeamMembershipChangedEvent(team.getId()));
+        }
+
         String token = jwtService.generateToken(user.getUsername());
 
         log.info("User {} registered successfully", user.getUsername());
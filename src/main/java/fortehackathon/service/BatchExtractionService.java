@@ -0,0 +1,236 @@
+package fortehackathon.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fortehackathon.dto.BatchJob;
+import fortehackathon.entity.BatchExtractionRequest;
+import fortehackathon.entity.ExtractionBatch;
+import fortehackathon.entity.ProcessingStatus;
+import fortehackathon.repository.BatchExtractionRequestRepository;
+import fortehackathon.repository.ExtractionBatchRepository;
+import fortehackathon.repository.MeetingRepository;
+import fortehackathon.repository.MeetingTranscriptRepository;
+import fortehackathon.util.TranscriptCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// opt-in offline extraction: queued transcripts are sent as one JSONL job to the OpenAI Batch API,
+// completed jobs are fed into the regular task creation path
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BatchExtractionService {
+
+    private static final String CUSTOM_ID_PREFIX = "meeting-";
+    private static final String COMPLETED = "completed";
+    private static final Set<String> FAILED = Set.of("failed", "expired", "cancelled");
+    private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final BatchExtractionRequestRepository requestRepository;
+    private final ExtractionBatchRepository batchRepository;
+    private final MeetingRepository meetingRepository;
+    private final MeetingTranscriptRepository meetingTranscriptRepository;
+    private final CustomUserDetailsService userDetailsService;
+    private final TeamRosterService teamRosterService;
+    private final AIService aiService;
+    private final MeetingService meetingService;
+    private final OpenAIBatchClient batchClient;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${batch-extraction.enabled:false}")
+    private boolean enabled;
+
+    // the Batch API accepts up to 50 000 requests per file
+    @Value("${batch-extraction.max-requests:1000}")
+    private int maxRequests;
+
+    @Scheduled(fixedDelayString = "${batch-extraction.submit-interval:PT10M}",
+               initialDelayString = "${batch-extraction.initial-delay:PT1M}")
+    public void submitPending() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> submitBatch());
+        } catch (Exception e) {
+            log.error("Error submitting extraction batch", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${batch-extraction.poll-interval:PT1M}",
+               initialDelayString = "${batch-extraction.initial-delay:PT1M}")
+    public void pollBatches() {
+        if (!enabled) {
+            return;
+        }
+
+        for (var batch : batchRepository.findByCompletedAtIsNullOrderByCreatedAt()) {
+            try {
+                poll(batch);
+            } catch (Exception e) {
+                log.error("Error polling extraction batch {}", batch.getExternalId(), e);
+            }
+        }
+    }
+
+    // pending rows stay locked until the batch is recorded, so no meeting is submitted twice
+    private void submitBatch() {
+        var pending = requestRepository.lockPending(maxRequests);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        var jsonl = new StringBuilder();
+        List<BatchExtractionRequest> included = new ArrayList<>();
+        for (var request : pending) {
+            try {
+                jsonl.append(toBatchLine(request)).append('\n');
+                included.add(request);
+            } catch (Exception e) {
+                log.error("Cannot prepare batch request for meeting {}", request.getMeetingId(), e);
+                requestRepository.delete(request);
+                meetingService.failBatchExtraction(request.getMeetingId(), e.getMessage());
+            }
+        }
+        if (included.isEmpty()) {
+            return;
+        }
+
+        String fileName = "meetings-" + LocalDateTime.now().format(FILE_NAME_FORMAT) + ".jsonl";
+        String inputFileId = batchClient.uploadBatchFile(fileName, jsonl.toString().getBytes(StandardCharsets.UTF_8));
+        BatchJob job = batchClient.createBatch(inputFileId);
+
+        var batch = batchRepository.save(ExtractionBatch.builder()
+                .externalId(job.getId())
+                .inputFileId(inputFileId)
+                .status(job.getStatus())
+                .requestCount(included.size())
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        for (var request : included) {
+            request.setBatchId(batch.getId());
+            meetingRepository.findById(request.getMeetingId()).ifPresent(meeting -> {
+                meeting.setProcessingStatus(ProcessingStatus.PROCESSING);
+                meetingRepository.save(meeting);
+            });
+        }
+
+        log.info("Submitted extraction batch {} with {} meetings", job.getId(), included.size());
+    }
+
+    private String toBatchLine(BatchExtractionRequest request) throws IOException {
+        var user = userDetailsService.loadUser(request.getUsername());
+        var roster = teamRosterService.getRoster(user);
+
+        return objectMapper.writeValueAsString(Map.of(
+                "custom_id", CUSTOM_ID_PREFIX + request.getMeetingId(),
+                "method", "POST",
+                "url", OpenAIBatchClient.CHAT_COMPLETIONS,
+                "body", aiService.buildMeetingAnalysisRequest(readTranscript(request.getMeetingId()),
+                        roster.getUsernames())
+        ));
+    }
+
+    private String readTranscript(Long meetingId) throws IOException {
+        var transcript = meetingTranscriptRepository.findById(meetingId)
+                .orElseThrow(() -> new RuntimeException("Transcript not found"));
+
+        try (var in = TranscriptCodec.open(transcript.getEncoding(), transcript.getContent())) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private void poll(ExtractionBatch batch) {
+        BatchJob job = batchClient.getBatch(batch.getExternalId());
+
+        if (!COMPLETED.equals(job.getStatus()) && !FAILED.contains(job.getStatus())) {
+            if (!job.getStatus().equals(batch.getStatus())) {
+                batch.setStatus(job.getStatus());
+                batchRepository.save(batch);
+            }
+            return;
+        }
+
+        // only the node that closes the batch applies its results
+        Integer claimed = transactionTemplate.execute(status -> batchRepository.complete(
+                batch.getId(), job.getStatus(), job.getOutputFileId(), job.getErrorFileId(), LocalDateTime.now()));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+
+        if (job.getOutputFileId() != null) {
+            applyResults(batchClient.downloadFile(job.getOutputFileId()));
+        }
+        if (job.getErrorFileId() != null) {
+            applyResults(batchClient.downloadFile(job.getErrorFileId()));
+        }
+
+        // anything the job did not report back on, e.g. an expired batch
+        for (var request : requestRepository.findByBatchId(batch.getId())) {
+            if (release(request.getMeetingId())) {
+                meetingService.failBatchExtraction(request.getMeetingId(), "batch " + job.getStatus());
+            }
+        }
+
+        log.info("Extraction batch {} finished with status {}", job.getId(), job.getStatus());
+    }
+
+    private void applyResults(String jsonl) {
+        for (String line : jsonl.split("\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            Long meetingId = null;
+            boolean claimed = false;
+            try {
+                JsonNode result = objectMapper.readTree(line);
+                meetingId = Long.valueOf(result.get("custom_id").asText().substring(CUSTOM_ID_PREFIX.length()));
+                var request = requestRepository.findById(meetingId).orElse(null);
+                if (request == null || !release(meetingId)) {
+                    continue;
+                }
+                claimed = true;
+
+                JsonNode response = result.path("response");
+                if (response.path("status_code").asInt() != 200) {
+                    String error = result.path("error").path("message").asText(
+                            response.path("body").path("error").path("message").asText("unknown error"));
+                    meetingService.failBatchExtraction(meetingId, error);
+                    continue;
+                }
+
+                String content = response.path("body").path("choices").path(0)
+                        .path("message").path("content").asText();
+                meetingService.completeBatchExtraction(meetingId, request.getUsername(), content);
+
+            } catch (Exception e) {
+                log.error("Error applying batch result for meeting {}", meetingId, e);
+                if (claimed) {
+                    meetingService.failBatchExtraction(meetingId, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private boolean release(Long meetingId) {
+        Integer released = transactionTemplate.execute(status -> requestRepository.release(meetingId));
+        return released != null && released > 0;
+    }
+}
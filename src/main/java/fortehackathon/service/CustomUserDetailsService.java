@@ -1,21 +1,40 @@
 package fortehackathon.service;
 
-import fortehackathon.repository.UserRepository;
+import fortehackathon.entity.User;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final EntityManager entityManager;
 
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        return loadUser(username);
+    }
+
+    // natural id and team lookups are served from the second-level cache once warm
+    @Transactional(readOnly = true)
+    public User loadUser(String username) {
+        User user = entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .load(username);
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found");
+        }
+
+        // the principal outlives this session, so the team has to be loaded here
+        Hibernate.initialize(user.getTeam());
+        return user;
     }
 }
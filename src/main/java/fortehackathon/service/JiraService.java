@@ -1,10 +1,12 @@
 package fortehackathon.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import fortehackathon.entity.Priority;
 import fortehackathon.entity.Task;
 import fortehackathon.entity.TaskStatus;
 import fortehackathon.entity.User;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,15 +14,24 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -29,10 +40,25 @@ public class JiraService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor jiraExecutor;
+
+    // issue keys go in as URI variables, so client metrics and spans share one uri tag
+    private static final String ISSUE_PATH = "/rest/api/3/issue/{key}";
+
+    // Jira's bulkfetch takes at most 100 issues per call
+    private static final int BULK_FETCH_SIZE = 100;
 
     @Value("${jira.url}")
     private String jiraUrl;
 
+    @Value("${jira.bulk.poll-interval:PT1S}")
+    private Duration bulkPollInterval;
+
+    @Value("${jira.bulk.poll-timeout:PT1M}")
+    private Duration bulkPollTimeout;
+
+    @Observed(name = "jira.request", contextualName = "jira create-issue",
+              lowCardinalityKeyValues = {"operation", "create-issue"})
     public String createIssue(User user, Task task) {
         try {
             String endpoint = jiraUrl + "/rest/api/3/issue";
@@ -53,20 +79,16 @@ public class JiraService {
         }
     }
 
+    @Observed(name = "jira.request", contextualName = "jira update-issue",
+              lowCardinalityKeyValues = {"operation", "update-issue"})
     public void updateIssue(User user, String issueKey, Task task) {
         try {
             if (task.getStatus() != null) {
                 transitionIssue(user, issueKey, task.getStatus());
             }
 
-            Map<String, Object> payload = new HashMap<>();
-            Map<String, Object> fields = new HashMap<>();
-            if (task.getSummary() != null) fields.put("summary", task.getSummary());
-            if (task.getDescription() != null) fields.put("description", createDescription(task.getDescription()));
-            payload.put("fields", fields);
-
-            var request = buildRequestEntity(user, payload);
-            restTemplate.exchange(jiraUrl + "/rest/api/3/issue/" + issueKey, HttpMethod.PUT, request, String.class);
+            var request = buildRequestEntity(user, buildEditPayload(task));
+            restTemplate.exchange(jiraUrl + ISSUE_PATH, HttpMethod.PUT, request, String.class, issueKey);
 
         } catch (Exception e) {
             log.error("Error updating Jira issue", e);
@@ -74,6 +96,37 @@ public class JiraService {
         }
     }
 
+    // returns issue key -> error for every issue that failed to sync
+    @Observed(name = "jira.request", contextualName = "jira bulk-update",
+              lowCardinalityKeyValues = {"operation", "bulk-update"})
+    public Map<String, String> bulkUpdateIssues(User user, List<Task> transitioned, List<Task> edited) {
+        Map<String, String> failures = new ConcurrentHashMap<>();
+
+        if (!transitioned.isEmpty()) {
+            bulkTransition(user, transitioned, failures);
+        }
+
+        List<CompletableFuture<Void>> edits = new ArrayList<>();
+        for (Task task : edited) {
+            edits.add(CompletableFuture.runAsync(() -> {
+                try {
+                    var request = buildRequestEntity(user, buildEditPayload(task));
+                    restTemplate.exchange(jiraUrl + ISSUE_PATH,
+                            HttpMethod.PUT, request, String.class, task.getJiraKey());
+                } catch (Exception e) {
+                    log.error("Error updating Jira issue {}", task.getJiraKey(), e);
+                    failures.merge(task.getJiraKey(), "Failed to update Jira issue: " + e.getMessage(),
+                            (a, b) -> a + "; " + b);
+                }
+            }, jiraExecutor));
+        }
+        CompletableFuture.allOf(edits.toArray(CompletableFuture[]::new)).join();
+
+        return failures;
+    }
+
+    @Observed(name = "jira.request", contextualName = "jira validate-credentials",
+              lowCardinalityKeyValues = {"operation", "validate-credentials"})
     public boolean validateCredentials(String username, String apiToken) {
         try {
             String endpoint = jiraUrl + "/rest/api/3/myself";
@@ -106,11 +159,12 @@ public class JiraService {
         return headers;
     }
 
-    private HttpEntity<String> buildRequestEntity(User user, Map<String, Object> payload) throws Exception {
+    // payload builders are package-private for the jmh benchmarks
+    HttpEntity<String> buildRequestEntity(User user, Map<String, Object> payload) throws Exception {
         return new HttpEntity<>(objectMapper.writeValueAsString(payload), createAuthHeaders(user));
     }
 
-    private Map<String, Object> buildIssuePayload(User user, Task task) {
+    Map<String, Object> buildIssuePayload(User user, Task task) {
         Map<String, Object> fields = new HashMap<>();
         fields.put("project", Map.of("key", user.getTeam().getJiraProjectKey()));
         fields.put("summary", task.getSummary());
@@ -132,6 +186,131 @@ public class JiraService {
         return Map.of("fields", fields);
     }
 
+    Map<String, Object> buildEditPayload(Task task) {
+        Map<String, Object> payload = new HashMap<>();
+        Map<String, Object> fields = new HashMap<>();
+        if (task.getSummary() != null) fields.put("summary", task.getSummary());
+        if (task.getDescription() != null) fields.put("description", createDescription(task.getDescription()));
+        payload.put("fields", fields);
+        return payload;
+    }
+
+    // the bulk endpoint only queues the transitions; which issues Jira actually moved is known once the
+    // queued task completes, so a key counts as synced only when Jira lists it as processed
+    private void bulkTransition(User user, List<Task> tasks, Map<String, String> failures) {
+        Map<String, List<String>> keysByTransition = tasks.stream()
+                .collect(Collectors.groupingBy(
+                        task -> getTransitionId(task.getStatus()),
+                        LinkedHashMap::new,
+                        Collectors.mapping(Task::getJiraKey, Collectors.toList())
+                ));
+        List<String> keys = tasks.stream().map(Task::getJiraKey).toList();
+
+        try {
+            List<Map<String, Object>> inputs = keysByTransition.entrySet().stream()
+                    .map(e -> Map.<String, Object>of(
+                            "selectedIssueIdsOrKeys", e.getValue(),
+                            "transitionId", e.getKey()))
+                    .toList();
+
+            var request = buildRequestEntity(user, Map.of(
+                    "bulkTransitionInputs", inputs,
+                    "sendBulkNotification", false));
+
+            var response = restTemplate.exchange(jiraUrl + "/rest/api/3/bulk/issues/transition",
+                    HttpMethod.POST, request, String.class);
+
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                throw new RuntimeException(response.getBody());
+            }
+
+            String taskId = objectMapper.readTree(response.getBody()).path("taskId").asText("");
+            if (taskId.isEmpty()) {
+                throw new RuntimeException("Jira did not return a bulk task id");
+            }
+
+            recordBulkResult(user, keys, awaitBulkTask(user, taskId), failures);
+
+        } catch (Exception e) {
+            log.error("Error bulk transitioning Jira issues", e);
+            keys.forEach(key -> failures.put(key, "Failed to transition Jira issue: " + e.getMessage()));
+        }
+    }
+
+    private JsonNode awaitBulkTask(User user, String taskId) throws Exception {
+        long deadline = System.nanoTime() + bulkPollTimeout.toNanos();
+        var request = new HttpEntity<>(createAuthHeaders(user));
+
+        while (true) {
+            var response = restTemplate.exchange(jiraUrl + "/rest/api/3/bulk/queue/{taskId}",
+                    HttpMethod.GET, request, String.class, taskId);
+            JsonNode progress = objectMapper.readTree(response.getBody());
+            String status = progress.path("status").asText();
+
+            if (status.equals("COMPLETE")) {
+                return progress;
+            }
+            if (!status.equals("ENQUEUED") && !status.equals("RUNNING")) {
+                throw new RuntimeException("Jira bulk task " + taskId + " ended as " + status);
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new RuntimeException("Jira bulk task " + taskId + " did not finish within " + bulkPollTimeout);
+            }
+
+            try {
+                Thread.sleep(bulkPollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for Jira bulk task " + taskId);
+            }
+        }
+    }
+
+    private void recordBulkResult(User user, List<String> keys, JsonNode result, Map<String, String> failures)
+            throws Exception {
+        Set<String> processed = new HashSet<>();
+        result.path("processedAccessibleIssues").forEach(issue -> processed.add(issue.asText()));
+
+        Map<String, String> errors = new HashMap<>();
+        result.path("failedAccessibleIssues").fields().forEachRemaining(e -> {
+            List<String> messages = new ArrayList<>();
+            e.getValue().forEach(message -> messages.add(message.asText()));
+            errors.put(e.getKey(), String.join("; ", messages));
+        });
+
+        // the queue reports issue ids, not the keys we sent
+        Set<String> reported = new HashSet<>(processed);
+        reported.addAll(errors.keySet());
+        Map<String, String> keyById = keys.containsAll(reported) ? Map.of() : fetchIssueKeys(user, keys);
+
+        Set<String> processedKeys = processed.stream()
+                .map(id -> keyById.getOrDefault(id, id))
+                .collect(Collectors.toSet());
+        Map<String, String> errorsByKey = errors.entrySet().stream().collect(Collectors.toMap(
+                e -> keyById.getOrDefault(e.getKey(), e.getKey()), Map.Entry::getValue, (a, b) -> a + "; " + b));
+
+        for (String key : keys) {
+            if (!processedKeys.contains(key)) {
+                failures.put(key, "Failed to transition Jira issue: "
+                        + errorsByKey.getOrDefault(key, "not transitioned, the issue is invalid or inaccessible"));
+            }
+        }
+    }
+
+    private Map<String, String> fetchIssueKeys(User user, List<String> keys) throws Exception {
+        Map<String, String> keyById = new HashMap<>();
+        for (int from = 0; from < keys.size(); from += BULK_FETCH_SIZE) {
+            var request = buildRequestEntity(user, Map.of(
+                    "issueIdsOrKeys", keys.subList(from, Math.min(from + BULK_FETCH_SIZE, keys.size())),
+                    "fields", List.of("key")));
+            var response = restTemplate.exchange(jiraUrl + "/rest/api/3/issue/bulkfetch",
+                    HttpMethod.POST, request, String.class);
+            objectMapper.readTree(response.getBody()).path("issues")
+                    .forEach(issue -> keyById.put(issue.path("id").asText(), issue.path("key").asText()));
+        }
+        return keyById;
+    }
+
     private void transitionIssue(User user, String issueKey, TaskStatus status) {
         try {
             String transitionId = getTransitionId(status);
@@ -139,8 +318,8 @@ public class JiraService {
             Map<String, Object> payload = Map.of("transition", Map.of("id", transitionId));
             HttpEntity<String> request = buildRequestEntity(user, payload);
 
-            restTemplate.exchange(jiraUrl + "/rest/api/3/issue/" + issueKey + "/transitions",
-                    HttpMethod.POST, request, String.class);
+            restTemplate.exchange(jiraUrl + ISSUE_PATH + "/transitions",
+                    HttpMethod.POST, request, String.class, issueKey);
 
         } catch (Exception e) {
             log.error("Error transitioning Jira issue", e);
@@ -2,17 +2,39 @@ package fortehackathon.service;
 
 import fortehackathon.dto.*;
 import fortehackathon.entity.*;
+import fortehackathon.event.MeetingProgressEvent;
+import fortehackathon.event.MeetingSubmittedEvent;
+import fortehackathon.event.TaskChangedEvent;
+import fortehackathon.event.TeamDataChangedEvent;
 import fortehackathon.repository.*;
+import fortehackathon.util.KeysetCursor;
+import fortehackathon.util.TranscriptCodec;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,72 +43,155 @@ import java.util.stream.Collectors;
 public class MeetingService {
 
     private final MeetingRepository meetingRepository;
+    private final MeetingTranscriptRepository meetingTranscriptRepository;
+    private final BatchExtractionRequestRepository batchExtractionRequestRepository;
     private final TaskRepository taskRepository;
+    private final TeamRosterService teamRosterService;
     private final UserRepository userRepository;
+    private final CustomUserDetailsService userDetailsService;
     private final AIService aiService;
     private final JiraService jiraService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PipelineMetrics pipelineMetrics;
+    private final ObservationRegistry observationRegistry;
+    private final ThreadPoolTaskExecutor meetingExecutor;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${batch-extraction.enabled:false}")
+    private boolean batchExtractionEnabled;
+
+    @Value("${meeting-processing.stale-after:PT1H}")
+    private Duration staleAfter;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
     @Transactional
     public MeetingAnalysisResponse analyzeMeeting(User user, MultipartFile file) {
+        try {
+            return analyzeMeeting(user, file.getOriginalFilename(), file.getBytes());
+
+        } catch (IOException e) {
+            log.error("Error uploading meeting file", e);
+            throw new RuntimeException("Failed to upload meeting: " + e.getMessage());
+        }
+    }
+
+    @Transactional
+    public MeetingAnalysisResponse analyzeMeeting(User user, String fileName, byte[] audioData) {
         validatePmRole(user);
 
-        try {
-            var meeting = Meeting.builder()
-                    .team(user.getTeam())
-                    .fileName(file.getOriginalFilename())
-                    .uploadedAt(LocalDateTime.now())
-                    .processingStatus(ProcessingStatus.UPLOADED)
-                    .build();
+        var meeting = Meeting.builder()
+                .team(user.getTeam())
+                .fileName(fileName)
+                .uploadedAt(LocalDateTime.now())
+                .processingStatus(ProcessingStatus.UPLOADED)
+                .build();
 
-            meeting = meetingRepository.save(meeting);
+        meeting = meetingRepository.save(meeting);
 
-            log.info("Meeting uploaded: {}", meeting.getId());
+        log.info("Meeting uploaded: {}", meeting.getId());
 
-            processMeetingAsync(meeting.getId(), file.getBytes(), user);
+        eventPublisher.publishEvent(new TeamDataChangedEvent(user.getTeam().getId()));
 
-            return MeetingAnalysisResponse.builder()
-                    .meetingId(meeting.getId())
-                    .status(ProcessingStatus.PROCESSING.name())
-                    .message("Meeting is being processed")
-                    .build();
+        eventPublisher.publishEvent(new MeetingSubmittedEvent(
+                meeting.getId(), user.getUsername(), audioData, null, Instant.now()));
 
-        } catch (IOException e) {
-            log.error("Error uploading meeting file", e);
-            throw new RuntimeException("Failed to upload meeting: " + e.getMessage());
+        return MeetingAnalysisResponse.builder()
+                .meetingId(meeting.getId())
+                .status(ProcessingStatus.PROCESSING.name())
+                .message("Meeting is being processed")
+                .build();
+    }
+
+    // hands the meeting to the background pool once the upload has committed; no transaction spans the LLM calls
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMeetingSubmitted(MeetingSubmittedEvent event) {
+        try {
+            meetingExecutor.execute(() -> process(event));
+        } catch (TaskRejectedException e) {
+            // the upload has already committed, so fail the meeting instead of leaving it PROCESSING forever
+            log.warn("Meeting queue is full, failing meeting {}", event.getMeetingId());
+            failRejected(event.getMeetingId());
         }
     }
 
-    @Async
+    // the in-memory queue does not survive a restart, anything it held would never finish
+    @EventListener(ApplicationReadyEvent.class)
     @Transactional
-    public void processMeetingAsync(Long meetingId, byte[] audioData, User user) {
+    public void failStaleMeetings() {
+        var stale = meetingRepository.findStale(
+                List.of(ProcessingStatus.UPLOADED, ProcessingStatus.PROCESSING),
+                LocalDateTime.now().minus(staleAfter));
+        if (stale.isEmpty()) {
+            return;
+        }
+
+        for (var meeting : stale) {
+            meeting.setProcessingStatus(ProcessingStatus.FAILED);
+            publishProgress(meeting);
+        }
+        meetingRepository.saveAll(stale);
+
+        stale.stream()
+                .map(meeting -> meeting.getTeam().getId())
+                .distinct()
+                .forEach(teamId -> eventPublisher.publishEvent(new TeamDataChangedEvent(teamId)));
+
+        log.warn("Failed {} meetings left unfinished by a previous run", stale.size());
+    }
+
+    private void process(MeetingSubmittedEvent event) {
+        Observation.createNotStarted("meeting.process", observationRegistry)
+                .lowCardinalityKeyValue("source", event.getAudio() != null ? "audio" : "transcript")
+                .highCardinalityKeyValue("meeting.id", String.valueOf(event.getMeetingId()))
+                .observe(() -> {
+                    var run = pipelineMetrics.start(event.getMeetingId());
+                    run.queuedSince(event.getSubmittedAt());
+
+                    var user = userDetailsService.loadUser(event.getUsername());
+
+                    if (event.getAudio() != null) {
+                        processMeeting(event.getMeetingId(), event.getAudio(), user, run);
+                    } else {
+                        processTranscript(event.getMeetingId(), event.getTranscript(), user, run);
+                    }
+                });
+    }
+
+    // called after the submitting transaction committed, so the update needs a transaction of its own
+    private void failRejected(Long meetingId) {
+        var transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.executeWithoutResult(status -> meetingRepository.findById(meetingId).ifPresent(meeting -> {
+            meeting.setProcessingStatus(ProcessingStatus.FAILED);
+            meetingRepository.save(meeting);
+            publishProgress(meeting);
+            eventPublisher.publishEvent(new TeamDataChangedEvent(meeting.getTeam().getId()));
+        }));
+    }
+
+    private void processMeeting(Long meetingId, byte[] audioData, User user, PipelineMetrics.Run run) {
         var meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new RuntimeException("Meeting not found"));
 
+        boolean success = false;
         try {
             meeting.setProcessingStatus(ProcessingStatus.PROCESSING);
             meetingRepository.save(meeting);
+            publishProgress(meeting);
 
             log.info("Transcribing meeting {}", meetingId);
-            String transcription = aiService.transcribeAudio(audioData);
-            meeting.setTranscription(transcription);
-            meetingRepository.save(meeting);
+            String transcription = run.time(PipelineMetrics.TRANSCRIPTION, () -> aiService.transcribeAudio(audioData));
+            storeTranscript(meeting, transcription);
 
             log.info("Extracting tasks from meeting {}", meetingId);
-            var teamMembers = user.getTeam().getMembers().stream()
-                    .map(User::getUsername)
-                    .collect(Collectors.toList());
+            var roster = teamRosterService.getRoster(user);
+            var extractedTasks = run.time(PipelineMetrics.EXTRACTION,
+                    () -> aiService.extractTasksFromTranscription(transcription, roster.getUsernames()));
 
-            var extractedTasks =
-                    aiService.extractTasksFromTranscription(transcription, teamMembers);
-
-            for (var extraction : extractedTasks) {
-                var jiraKey = buildAndSave(user, extraction, meeting);
-                log.info("Created task {} from meeting {}", jiraKey, meetingId);
-            }
-
-            meeting.setProcessingStatus(ProcessingStatus.COMPLETED);
-            meeting.setProcessedAt(LocalDateTime.now());
-            meetingRepository.save(meeting);
+            createTasks(user, roster, meeting, extractedTasks, run);
+            success = true;
 
             log.info("Meeting {} processed successfully, created {} tasks",
                     meetingId, extractedTasks.size());
@@ -95,20 +200,24 @@ public class MeetingService {
             log.error("Error processing meeting {}", meetingId, e);
             meeting.setProcessingStatus(ProcessingStatus.FAILED);
             meetingRepository.save(meeting);
+            publishProgress(meeting);
+        } finally {
+            pipelineMetrics.finish(run, success);
         }
+
+        eventPublisher.publishEvent(new TeamDataChangedEvent(user.getTeam().getId()));
     }
 
+    @Transactional(readOnly = true)
     public MeetingAnalysisResponse getMeetingStatus(User user, Long meetingId) {
         var meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new RuntimeException("Meeting not found"));
 
         validateTeamAccess(user, meeting);
 
-        List<TaskResponse> tasks = meeting.getGeneratedTasks() != null
-                ? meeting.getGeneratedTasks().stream()
+        List<TaskResponse> tasks = taskRepository.findByMeetingOrderByCreatedAtAscIdAsc(meeting).stream()
                 .map(this::mapTaskToResponse)
-                .collect(Collectors.toList())
-                : List.of();
+                .collect(Collectors.toList());
 
         return MeetingAnalysisResponse.builder()
                 .meetingId(meeting.getId())
@@ -118,22 +227,101 @@ public class MeetingService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public MeetingPageResponse getMeetings(User user, List<String> statuses, String cursor, Integer limit) {
+        if (user.getTeam() == null) {
+            throw new RuntimeException("You are not part of any team");
+        }
+
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        var page = PageRequest.of(0, pageSize + 1);
+
+        Set<ProcessingStatus> statusFilter = statuses == null || statuses.isEmpty()
+                ? EnumSet.allOf(ProcessingStatus.class)
+                : statuses.stream().map(ProcessingStatus::valueOf).collect(Collectors.toSet());
+
+        List<MeetingSummary> rows;
+        if (cursor != null) {
+            var after = KeysetCursor.decode(cursor);
+            rows = meetingRepository.findHistoryAfter(
+                    user.getTeam(), statusFilter, after.getTimestamp(), after.getId(), page);
+        } else {
+            rows = meetingRepository.findHistory(user.getTeam(), statusFilter, page);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            var last = rows.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getUploadedAt(), last.getId()).encode();
+        }
+
+        return MeetingPageResponse.builder()
+                .meetings(rows.stream()
+                        .map(row -> MeetingSummaryResponse.builder()
+                                .id(row.getId())
+                                .fileName(row.getFileName())
+                                .status(row.getStatus() != null ? row.getStatus().name() : null)
+                                .uploadedAt(row.getUploadedAt())
+                                .processedAt(row.getProcessedAt())
+                                .taskCount(row.getTaskCount())
+                                .build())
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public MeetingTranscript getTranscript(User user, Long meetingId) {
+        var meeting = meetingRepository.findById(meetingId)
+                .orElseThrow(() -> new RuntimeException("Meeting not found"));
+
+        validateTeamAccess(user, meeting);
+
+        return meetingTranscriptRepository.findById(meetingId)
+                .orElseThrow(() -> new RuntimeException("Transcript not found"));
+    }
+
     @Transactional
     public MeetingAnalysisResponse analyzeTranscript(User user, MeetingTranscriptRequest request) {
         validatePmRole(user);
 
+        boolean batch = Boolean.TRUE.equals(request.getBatch());
+        if (batch && !batchExtractionEnabled) {
+            throw new RuntimeException("Batch extraction is disabled");
+        }
+
         var meeting = Meeting.builder()
                 .team(user.getTeam())
-                .transcription(request.getTranscript())
                 .uploadedAt(request.getMeetingDate() != null ? request.getMeetingDate() : LocalDateTime.now())
-                .processingStatus(ProcessingStatus.PROCESSING)
+                .processingStatus(batch ? ProcessingStatus.QUEUED : ProcessingStatus.PROCESSING)
                 .build();
 
         meeting = meetingRepository.save(meeting);
+        storeTranscript(meeting, request.getTranscript());
+
+        eventPublisher.publishEvent(new TeamDataChangedEvent(user.getTeam().getId()));
+
+        if (batch) {
+            batchExtractionRequestRepository.save(BatchExtractionRequest.builder()
+                    .meetingId(meeting.getId())
+                    .username(user.getUsername())
+                    .createdAt(LocalDateTime.now())
+                    .build());
+
+            log.info("Queued transcript of meeting {} for batch extraction", meeting.getId());
+
+            return MeetingAnalysisResponse.builder()
+                    .meetingId(meeting.getId())
+                    .status(ProcessingStatus.QUEUED.name())
+                    .message("Transcript is queued for batch extraction")
+                    .build();
+        }
 
         log.info("Processing transcript for meeting {}", meeting.getId());
 
-        processTranscriptAsync(meeting.getId(), request.getTranscript(), user);
+        eventPublisher.publishEvent(new MeetingSubmittedEvent(
+                meeting.getId(), user.getUsername(), null, request.getTranscript(), Instant.now()));
 
         return MeetingAnalysisResponse.builder()
                 .meetingId(meeting.getId())
@@ -142,26 +330,22 @@ public class MeetingService {
                 .build();
     }
 
-    @Async
-    @Transactional
-    public void processTranscriptAsync(Long meetingId, String transcript, User user) {
+    private void processTranscript(Long meetingId, String transcript, User user, PipelineMetrics.Run run) {
         var meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new RuntimeException("Meeting not found"));
 
+        boolean success = false;
         try {
             meeting.setProcessingStatus(ProcessingStatus.PROCESSING);
             meetingRepository.save(meeting);
+            publishProgress(meeting);
 
-            var extractedTasks = aiService.extractTasksFromTranscription(transcript,
-                    user.getTeam().getMembers().stream().map(User::getUsername).toList());
-
-            for (var extraction : extractedTasks) {
-                buildAndSave(user, extraction, meeting);
-            }
+            var roster = teamRosterService.getRoster(user);
+            var extractedTasks = run.time(PipelineMetrics.EXTRACTION,
+                    () -> aiService.extractTasksFromTranscription(transcript, roster.getUsernames()));
 
-            meeting.setProcessingStatus(ProcessingStatus.COMPLETED);
-            meeting.setProcessedAt(LocalDateTime.now());
-            meetingRepository.save(meeting);
+            createTasks(user, roster, meeting, extractedTasks, run);
+            success = true;
 
             log.info("Transcript for meeting {} processed successfully", meetingId);
 
@@ -169,10 +353,94 @@ public class MeetingService {
             log.error("Error processing transcript for meeting {}", meetingId, e);
             meeting.setProcessingStatus(ProcessingStatus.FAILED);
             meetingRepository.save(meeting);
+            publishProgress(meeting);
+        } finally {
+            pipelineMetrics.finish(run, success);
         }
+
+        eventPublisher.publishEvent(new TeamDataChangedEvent(user.getTeam().getId()));
     }
 
-    private Task buildAndSave(User user, TaskExtractionResult extraction, Meeting meeting) {
+    // results of an offline batch go through the same task creation path as a synchronous extraction
+    public void completeBatchExtraction(Long meetingId, String username, String response) {
+        var user = userDetailsService.loadUser(username);
+        var meeting = meetingRepository.findById(meetingId)
+                .orElseThrow(() -> new RuntimeException("Meeting not found"));
+
+        var run = pipelineMetrics.start(meetingId);
+        boolean success = false;
+        try {
+            var extractedTasks = run.time(PipelineMetrics.EXTRACTION, () -> aiService.parseMeetingAnalysis(response));
+            createTasks(user, teamRosterService.getRoster(user), meeting, extractedTasks, run);
+            success = true;
+
+            log.info("Batch extraction for meeting {} created {} tasks", meetingId, extractedTasks.size());
+
+        } catch (Exception e) {
+            log.error("Error applying batch extraction for meeting {}", meetingId, e);
+            meeting.setProcessingStatus(ProcessingStatus.FAILED);
+            meetingRepository.save(meeting);
+            publishProgress(meeting);
+        } finally {
+            pipelineMetrics.finish(run, success);
+        }
+
+        eventPublisher.publishEvent(new TeamDataChangedEvent(user.getTeam().getId()));
+    }
+
+    public void failBatchExtraction(Long meetingId, String reason) {
+        var meeting = meetingRepository.findById(meetingId)
+                .orElseThrow(() -> new RuntimeException("Meeting not found"));
+
+        log.warn("Batch extraction for meeting {} failed: {}", meetingId, reason);
+        meeting.setProcessingStatus(ProcessingStatus.FAILED);
+        meetingRepository.save(meeting);
+        publishProgress(meeting);
+
+        eventPublisher.publishEvent(new TeamDataChangedEvent(meeting.getTeam().getId()));
+    }
+
+    private void createTasks(User user, TeamRoster roster, Meeting meeting,
+                             List<TaskExtractionResult> extractedTasks, PipelineMetrics.Run run) {
+        pipelineMetrics.recordTasksExtracted(extractedTasks.size());
+        var assignees = run.time(PipelineMetrics.ASSIGNEE_RESOLUTION, () -> resolveAssignees(roster, extractedTasks));
+
+        for (var extraction : extractedTasks) {
+            buildAndSave(user, assignees, extraction, meeting, run);
+        }
+
+        meeting.setProcessingStatus(ProcessingStatus.COMPLETED);
+        meeting.setProcessedAt(LocalDateTime.now());
+        meetingRepository.save(meeting);
+        publishProgress(meeting);
+    }
+
+    // all names of one extraction are matched against the roster in memory, then loaded with a single query
+    private Map<String, User> resolveAssignees(TeamRoster roster, List<TaskExtractionResult> extractedTasks) {
+        var matches = roster.resolveAssignees(extractedTasks.stream()
+                .map(TaskExtractionResult::getAssigneeName)
+                .filter(Objects::nonNull)
+                .toList());
+
+        var users = userRepository.findAllById(matches.values().stream()
+                        .map(AssigneeMatch::getUserId)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        Map<String, User> assignees = new HashMap<>();
+        matches.forEach((name, match) -> {
+            log.debug("Resolved assignee '{}' to {} ({}, confidence {})",
+                    name, match.getUsername(), match.getMatchedBy(), match.getConfidence());
+            var assignee = users.get(match.getUserId());
+            if (assignee != null) {
+                assignees.put(name, assignee);
+            }
+        });
+        return assignees;
+    }
+
+    private Task buildAndSave(User user, Map<String, User> assignees, TaskExtractionResult extraction,
+                              Meeting meeting, PipelineMetrics.Run run) {
         var task = Task.builder()
                 .summary(extraction.getSummary())
                 .description(extraction.getDescription())
@@ -186,15 +454,45 @@ public class MeetingService {
                 .build();
 
         if (extraction.getAssigneeName() != null) {
-            userRepository.findByUsernameAndTeam(extraction.getAssigneeName(), user.getTeam())
-                    .ifPresent(task::setAssignee);
+            task.setAssignee(assignees.get(extraction.getAssigneeName()));
         }
 
-        var jiraKey = jiraService.createIssue(user, task);
+        var jiraKey = run.time(PipelineMetrics.JIRA, () -> jiraService.createIssue(user, task));
         task.setJiraKey(jiraKey);
         task.setJiraUrl(jiraService.getIssueUrl(user, jiraKey));
 
-        return taskRepository.save(task);
+        var saved = taskRepository.save(task);
+
+        eventPublisher.publishEvent(new TaskChangedEvent(
+                meeting.getTeam().getId(), TaskChangedEvent.Type.CREATED, mapTaskToResponse(saved)));
+
+        return saved;
+    }
+
+    private void storeTranscript(Meeting meeting, String transcript) {
+        if (transcript == null) {
+            return;
+        }
+
+        var content = TranscriptCodec.compress(transcript);
+        int originalSize = transcript.getBytes(StandardCharsets.UTF_8).length;
+        meetingTranscriptRepository.save(MeetingTranscript.builder()
+                .meetingId(meeting.getId())
+                .encoding(TranscriptCodec.DEFLATE)
+                .originalSize(originalSize)
+                .compressedSize(content.length)
+                .content(content)
+                .createdAt(LocalDateTime.now())
+                .build());
+        meetingRepository.updateSearchVector(meeting.getId(), transcript);
+
+        log.debug("Stored transcript for meeting {}, {} -> {} bytes",
+                meeting.getId(), originalSize, content.length);
+    }
+
+    private void publishProgress(Meeting meeting) {
+        eventPublisher.publishEvent(new MeetingProgressEvent(
+                meeting.getTeam().getId(), meeting.getId(), meeting.getProcessingStatus()));
     }
 
     private TaskResponse mapTaskToResponse(Task task) {
@@ -0,0 +1,59 @@
+package fortehackathon.service;
+
+import fortehackathon.dto.ModelRoute;
+import fortehackathon.properties.ModelRoutingProperties;
+import fortehackathon.util.TokenCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+// picks the model and output budget for a prompt: a one-line task does not need a meeting-sized budget
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ModelRouter {
+
+    private final ModelRoutingProperties properties;
+    private final TokenCounter tokenCounter;
+    private final MeterRegistry meterRegistry;
+
+    public ModelRoute route(String endpoint, String prompt) {
+        var policy = properties.getEndpoints().get(endpoint);
+        if (policy == null || policy.getRoutes().isEmpty()) {
+            throw new RuntimeException("No model routes configured for " + endpoint);
+        }
+
+        int inputTokens = tokenCounter.count(prompt);
+        int expectedTasks = policy.getExpectedTasks() != null
+                ? policy.getExpectedTasks()
+                : Math.max(1, (int) Math.ceil(inputTokens / (double) policy.getInputTokensPerTask()));
+
+        var route = policy.getRoutes().stream()
+                .filter(r -> r.getMaxInputTokens() == null || inputTokens <= r.getMaxInputTokens())
+                .findFirst()
+                .orElse(policy.getRoutes().get(policy.getRoutes().size() - 1));
+
+        long wanted = policy.getOutputTokensOverhead() + (long) expectedTasks * policy.getOutputTokensPerTask();
+        int maxTokens = (int) Math.min(Math.max(wanted, policy.getMinOutputTokens()), route.getMaxOutputTokens());
+
+        meterRegistry.counter("llm.route", "endpoint", endpoint, "model", route.getModel()).increment();
+        DistributionSummary.builder("llm.route.input.tokens")
+                .tag("endpoint", endpoint)
+                .baseUnit("tokens")
+                .register(meterRegistry)
+                .record(inputTokens);
+
+        log.debug("Routing {} ({} input tokens, ~{} tasks) to {} with maxTokens {}",
+                endpoint, inputTokens, expectedTasks, route.getModel(), maxTokens);
+
+        return ModelRoute.builder()
+                .endpoint(endpoint)
+                .model(route.getModel())
+                .maxTokens(maxTokens)
+                .inputTokens(inputTokens)
+                .expectedTasks(expectedTasks)
+                .build();
+    }
+}
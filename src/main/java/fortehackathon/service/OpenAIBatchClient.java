@@ -0,0 +1,125 @@
+package fortehackathon.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fortehackathon.dto.BatchJob;
+import fortehackathon.properties.OpenAIProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+// Files and Batches endpoints of the OpenAI API, relative to openai.url
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OpenAIBatchClient {
+
+    public static final String CHAT_COMPLETIONS = "/v1/chat/completions";
+    private static final String COMPLETION_WINDOW = "24h";
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final OpenAIProperties openAIProperties;
+
+    public String uploadBatchFile(String fileName, byte[] jsonl) {
+        try {
+            var headers = authHeaders();
+            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+
+            var body = new LinkedMultiValueMap<String, Object>();
+            body.add("purpose", "batch");
+            body.add("file", new ByteArrayResource(jsonl) {
+                @Override
+                public String getFilename() {
+                    return fileName;
+                }
+            });
+
+            var response = restTemplate.exchange(url("/files"), HttpMethod.POST,
+                    new HttpEntity<>(body, headers), String.class);
+            return objectMapper.readTree(response.getBody()).get("id").asText();
+
+        } catch (Exception e) {
+            log.error("Error uploading batch file {}", fileName, e);
+            throw new RuntimeException("Failed to upload batch file: " + e.getMessage());
+        }
+    }
+
+    public BatchJob createBatch(String inputFileId) {
+        try {
+            var headers = authHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+
+            var payload = Map.of(
+                    "input_file_id", inputFileId,
+                    "endpoint", CHAT_COMPLETIONS,
+                    "completion_window", COMPLETION_WINDOW
+            );
+
+            var response = restTemplate.exchange(url("/batches"), HttpMethod.POST,
+                    new HttpEntity<>(objectMapper.writeValueAsString(payload), headers), String.class);
+            return toBatchJob(objectMapper.readTree(response.getBody()));
+
+        } catch (Exception e) {
+            log.error("Error creating batch for file {}", inputFileId, e);
+            throw new RuntimeException("Failed to create batch: " + e.getMessage());
+        }
+    }
+
+    public BatchJob getBatch(String batchId) {
+        try {
+            var response = restTemplate.exchange(url("/batches/{id}"), HttpMethod.GET,
+                    new HttpEntity<>(authHeaders()), String.class, batchId);
+            return toBatchJob(objectMapper.readTree(response.getBody()));
+
+        } catch (Exception e) {
+            log.error("Error fetching batch {}", batchId, e);
+            throw new RuntimeException("Failed to fetch batch: " + e.getMessage());
+        }
+    }
+
+    public String downloadFile(String fileId) {
+        try {
+            var response = restTemplate.exchange(url("/files/{id}/content"), HttpMethod.GET,
+                    new HttpEntity<>(authHeaders()), byte[].class, fileId);
+            return response.getBody() != null ? new String(response.getBody(), StandardCharsets.UTF_8) : "";
+
+        } catch (Exception e) {
+            log.error("Error downloading file {}", fileId, e);
+            throw new RuntimeException("Failed to download file: " + e.getMessage());
+        }
+    }
+
+    private BatchJob toBatchJob(JsonNode node) {
+        return BatchJob.builder()
+                .id(node.get("id").asText())
+                .status(node.path("status").asText())
+                .outputFileId(textOrNull(node.get("output_file_id")))
+                .errorFileId(textOrNull(node.get("error_file_id")))
+                .build();
+    }
+
+    private String textOrNull(JsonNode node) {
+        return node == null || node.isNull() ? null : node.asText();
+    }
+
+    private HttpHeaders authHeaders() {
+        var headers = new HttpHeaders();
+        headers.setBearerAuth(openAIProperties.getOpenAIAPI());
+        return headers;
+    }
+
+    private String url(String path) {
+        return openAIProperties.getOpenAIURL() + path;
+    }
+}
@@ -0,0 +1,115 @@
+package fortehackathon.service;
+
+import fortehackathon.dto.OverdueDigest;
+import fortehackathon.entity.OverdueSweepState;
+import fortehackathon.entity.Task;
+import fortehackathon.entity.User;
+import fortehackathon.event.OverdueTasksEvent;
+import fortehackathon.repository.OverdueSweepStateRepository;
+import fortehackathon.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OverdueSweeperService {
+
+    private static final String STATE_NAME = "overdue";
+    private static final long LOCK_KEY = 0x5EEB_0001L;
+    private static final DateTimeFormatter DEADLINE_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
+
+    private final TaskRepository taskRepository;
+    private final OverdueSweepStateRepository stateRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${overdue-sweeper.enabled:true}")
+    private boolean enabled;
+
+    @Value("${overdue-sweeper.batch-size:500}")
+    private int batchSize;
+
+    @Value("${overdue-sweeper.max-batches:20}")
+    private int maxBatches;
+
+    @Scheduled(fixedDelayString = "${overdue-sweeper.interval:PT1M}",
+               initialDelayString = "${overdue-sweeper.initial-delay:PT30S}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+
+        int batches = 0;
+        while (batches < maxBatches && Boolean.TRUE.equals(transactionTemplate.execute(status -> sweepBatch()))) {
+            batches++;
+        }
+    }
+
+    // the advisory lock is transaction-scoped, so only one node announces and marks each batch
+    private boolean sweepBatch() {
+        if (!stateRepository.tryAdvisoryXactLock(LOCK_KEY)) {
+            log.debug("Overdue sweep is running on another node");
+            return false;
+        }
+
+        var now = LocalDateTime.now();
+        var state = stateRepository.findById(STATE_NAME)
+                .orElseGet(() -> OverdueSweepState.builder()
+                        .name(STATE_NAME)
+                        .build());
+
+        List<Task> tasks = taskRepository.findNewlyOverdue(now, PageRequest.of(0, batchSize));
+
+        if (!tasks.isEmpty()) {
+            eventPublisher.publishEvent(new OverdueTasksEvent(buildDigests(tasks)));
+            taskRepository.markOverdueNotified(tasks.stream().map(Task::getId).toList(), now);
+
+            log.info("Overdue sweep emitted {} tasks", tasks.size());
+        }
+
+        state.setUpdatedAt(now);
+        stateRepository.save(state);
+
+        return tasks.size() == batchSize;
+    }
+
+    private List<OverdueDigest> buildDigests(List<Task> tasks) {
+        Map<Long, List<String>> linesByRecipient = new LinkedHashMap<>();
+
+        for (Task task : tasks) {
+            Long recipient = recipientOf(task);
+            if (recipient == null) {
+                continue;
+            }
+            linesByRecipient.computeIfAbsent(recipient, id -> new ArrayList<>())
+                    .add(task.getJiraKey() + " — " + task.getSummary()
+                         + " (дедлайн " + task.getDeadline().format(DEADLINE_FORMAT) + ")");
+        }
+
+        return linesByRecipient.entrySet().stream()
+                .map(e -> new OverdueDigest(e.getKey(), e.getValue()))
+                .toList();
+    }
+
+    private Long recipientOf(Task task) {
+        if (task.getAssignee() != null && task.getAssignee().getTelegramId() != null) {
+            return task.getAssignee().getTelegramId();
+        }
+        User pm = task.getTeam().getProjectManager();
+        return pm != null ? pm.getTelegramId() : null;
+    }
+}
@@ -0,0 +1,113 @@
+package fortehackathon.service;
+
+import fortehackathon.entity.MeetingStageTiming;
+import fortehackathon.repository.MeetingStageTimingRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// stage timers for meeting processing; each run is also persisted to meeting_stage_timings
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PipelineMetrics {
+
+    public static final String QUEUE_WAIT = "queue_wait";
+    public static final String TRANSCRIPTION = "transcription";
+    public static final String EXTRACTION = "extraction";
+    public static final String ASSIGNEE_RESOLUTION = "assignee_resolution";
+    public static final String JIRA = "jira";
+    public static final String TOTAL = "total";
+
+    private static final String SUCCESS = "success";
+    private static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+    private final MeetingStageTimingRepository timingRepository;
+
+    public Run start(Long meetingId) {
+        return new Run(meetingId);
+    }
+
+    public void recordTasksExtracted(int count) {
+        DistributionSummary.builder("meeting.tasks.extracted")
+                .baseUnit("tasks")
+                .register(meterRegistry)
+                .record(count);
+    }
+
+    // metrics never fail the pipeline, a lost timing row is only logged
+    public void finish(Run run, boolean success) {
+        run.record(TOTAL, run.startedAt, System.nanoTime() - run.startedNanos, success ? SUCCESS : ERROR);
+        try {
+            timingRepository.saveAll(new ArrayList<>(run.stages.values()));
+        } catch (Exception e) {
+            log.warn("Could not persist stage timings of meeting {}", run.meetingId, e);
+        }
+    }
+
+    public class Run {
+
+        private final Long meetingId;
+        private final Instant startedAt = Instant.now();
+        private final long startedNanos = System.nanoTime();
+        private final Map<String, MeetingStageTiming> stages = new LinkedHashMap<>();
+
+        private Run(Long meetingId) {
+            this.meetingId = meetingId;
+        }
+
+        public <T> T time(String stage, Supplier<T> work) {
+            Instant started = Instant.now();
+            long startedAt = System.nanoTime();
+            String outcome = ERROR;
+            try {
+                T result = work.get();
+                outcome = SUCCESS;
+                return result;
+            } finally {
+                record(stage, started, System.nanoTime() - startedAt, outcome);
+            }
+        }
+
+        public void queuedSince(Instant submittedAt) {
+            if (submittedAt != null) {
+                record(QUEUE_WAIT, submittedAt, Duration.between(submittedAt, startedAt).toNanos(), SUCCESS);
+            }
+        }
+
+        private void record(String stage, Instant started, long nanos, String outcome) {
+            meterRegistry.timer("meeting.pipeline.stage", "stage", stage, "outcome", outcome)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+
+            stages.merge(stage, MeetingStageTiming.builder()
+                            .meetingId(meetingId)
+                            .stage(stage)
+                            .startedAt(LocalDateTime.ofInstant(started, ZoneId.systemDefault()))
+                            .durationMs(TimeUnit.NANOSECONDS.toMillis(nanos))
+                            .calls(1)
+                            .outcome(outcome)
+                            .build(),
+                    (existing, next) -> {
+                        existing.setDurationMs(existing.getDurationMs() + next.getDurationMs());
+                        existing.setCalls(existing.getCalls() + 1);
+                        if (ERROR.equals(next.getOutcome())) {
+                            existing.setOutcome(ERROR);
+                        }
+                        return existing;
+                    });
+        }
+    }
+}
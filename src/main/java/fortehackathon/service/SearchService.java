@@ -0,0 +1,73 @@
+package fortehackathon.service;
+
+import fortehackathon.dto.SearchHit;
+import fortehackathon.dto.SearchResultResponse;
+import fortehackathon.entity.User;
+import fortehackathon.repository.MeetingRepository;
+import fortehackathon.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TaskRepository taskRepository;
+    private final MeetingRepository meetingRepository;
+
+    @Transactional(readOnly = true)
+    public List<SearchResultResponse> searchTasks(User user, String query, Integer page, Integer size) {
+        validate(user, query);
+        int limit = pageSize(size);
+
+        return map("task", taskRepository.search(
+                user.getTeam().getId(), query, limit, offset(page, limit)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<SearchResultResponse> searchMeetings(User user, String query, Integer page, Integer size) {
+        validate(user, query);
+        int limit = pageSize(size);
+
+        return map("meeting", meetingRepository.search(
+                user.getTeam().getId(), query, limit, offset(page, limit)));
+    }
+
+    private List<SearchResultResponse> map(String type, List<SearchHit> hits) {
+        return hits.stream()
+                .map(hit -> SearchResultResponse.builder()
+                        .type(type)
+                        .id(hit.getId())
+                        .key(hit.getKey())
+                        .title(hit.getTitle())
+                        .status(hit.getStatus())
+                        .rank(hit.getRank())
+                        .highlight(hit.getHighlight())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private int pageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    private long offset(Integer page, int limit) {
+        return page == null ? 0 : (long) Math.max(page, 0) * limit;
+    }
+
+    private void validate(User user, String query) {
+        if (user.getTeam() == null) {
+            throw new RuntimeException("You are not part of any team");
+        }
+        if (query == null || query.isBlank()) {
+            throw new RuntimeException("Search query must not be empty");
+        }
+    }
+}
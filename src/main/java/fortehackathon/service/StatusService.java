@@ -1,53 +1,129 @@
 package fortehackathon.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import fortehackathon.dto.StatusBreakdownResponse;
 import fortehackathon.dto.StatusOverviewResponse;
+import fortehackathon.dto.TaskAggregate;
 import fortehackathon.entity.*;
+import fortehackathon.event.TeamDataChangedEvent;
 import fortehackathon.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class StatusService {
 
+    private static final String UNASSIGNED = "unassigned";
+
     private final TaskRepository taskRepository;
+    private final Cache<Long, StatusOverviewResponse> statusOverviewCache;
+    private final MeterRegistry meterRegistry;
 
+    @Transactional(readOnly = true)
     public StatusOverviewResponse getOverview(User user) {
         if (user.getTeam() == null) {
             throw new RuntimeException("You are not part of any team");
         }
 
-        List<Task> allTasks = taskRepository.findByTeam(user.getTeam());
+        // concurrent misses for the same team wait on a single computation
+        return statusOverviewCache.get(user.getTeam().getId(), teamId -> computeOverview(user.getTeam()));
+    }
 
-        long completed = allTasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.DONE)
-                .count();
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamDataChanged(TeamDataChangedEvent event) {
+        statusOverviewCache.invalidate(event.getTeamId());
+        meterRegistry.counter("status.overview.invalidations").increment();
+        log.debug("Invalidated status overview for team {}", event.getTeamId());
+    }
 
-        long inProgress = allTasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.IN_PROGRESS ||
-                             t.getStatus() == TaskStatus.IN_REVIEW)
-                .count();
+    private StatusOverviewResponse computeOverview(Team team) {
+        var now = LocalDateTime.now();
+        var aggregates = taskRepository.aggregateByTeam(team);
+        var overdueAggregates = taskRepository.aggregateOverdueByTeam(team, now);
 
-        long todo = allTasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.TODO)
-                .count();
+        var totals = new Counter();
+        var byAssignee = new LinkedHashMap<Long, Counter>();
+        var byPriority = new LinkedHashMap<Priority, Counter>();
+        var assigneeNames = new LinkedHashMap<Long, String>();
 
-        long overdue = allTasks.stream()
-                .filter(t -> t.getDeadline() != null &&
-                             t.getDeadline().isBefore(LocalDateTime.now()) &&
-                             t.getStatus() != TaskStatus.DONE)
-                .count();
+        for (var row : aggregates) {
+            totals.add(row);
+            byAssignee.computeIfAbsent(row.getAssigneeId(), id -> new Counter()).add(row);
+            byPriority.computeIfAbsent(row.getPriority(), p -> new Counter()).add(row);
+            assigneeNames.putIfAbsent(row.getAssigneeId(), row.getAssignee());
+        }
+
+        for (var row : overdueAggregates) {
+            totals.overdue += row.getTotal();
+            byAssignee.computeIfAbsent(row.getAssigneeId(), id -> new Counter()).overdue += row.getTotal();
+            byPriority.computeIfAbsent(row.getPriority(), p -> new Counter()).overdue += row.getTotal();
+        }
 
         return StatusOverviewResponse.builder()
-                .completed((int) completed)
-                .inProgress((int) inProgress)
-                .todo((int) todo)
-                .overdue((int) overdue)
-                .updatedAt(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .total((int) totals.total)
+                .completed((int) totals.completed)
+                .inProgress((int) totals.inProgress)
+                .todo((int) totals.todo)
+                .blocked((int) totals.blocked)
+                .overdue((int) totals.overdue)
+                .byAssignee(toBreakdown(byAssignee, id -> id != null ? assigneeNames.get(id) : UNASSIGNED))
+                .byPriority(toBreakdown(byPriority, p -> p != null ? p.name() : null))
+                .updatedAt(now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
                 .build();
     }
+
+    private <K> List<StatusBreakdownResponse> toBreakdown(Map<K, Counter> counters, Function<K, String> naming) {
+        return counters.entrySet().stream()
+                .map(e -> e.getValue().toResponse(naming.apply(e.getKey())))
+                .collect(Collectors.toList());
+    }
+
+    private static class Counter {
+        private long total;
+        private long completed;
+        private long inProgress;
+        private long todo;
+        private long blocked;
+        private long overdue;
+
+        void add(TaskAggregate row) {
+            long count = row.getTotal();
+            total += count;
+            if (row.getStatus() == null) {
+                return;
+            }
+            switch (row.getStatus()) {
+                case DONE -> completed += count;
+                case IN_PROGRESS, IN_REVIEW -> inProgress += count;
+                case TODO -> todo += count;
+                case BLOCKED -> blocked += count;
+            }
+        }
+
+        StatusBreakdownResponse toResponse(String name) {
+            return StatusBreakdownResponse.builder()
+                    .name(name)
+                    .total((int) total)
+                    .completed((int) completed)
+                    .inProgress((int) inProgress)
+                    .todo((int) todo)
+                    .blocked((int) blocked)
+                    .overdue((int) overdue)
+                    .build();
+        }
+    }
 }
@@ -2,14 +2,22 @@ package fortehackathon.service;
 
 import fortehackathon.dto.*;
 import fortehackathon.entity.*;
+import fortehackathon.event.TaskChangedEvent;
+import fortehackathon.event.TeamDataChangedEvent;
 import fortehackathon.repository.*;
+import fortehackathon.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,6 +29,15 @@ public class TaskService {
     private final UserRepository userRepository;
     private final JiraService jiraService;
     private final AIService aiService;
+    private final TeamRosterService teamRosterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_BULK_SIZE = 500;
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
 
     @Transactional
     public TaskResponse createTask(User user, CreateTaskRequest request) {
@@ -51,20 +68,18 @@ public class TaskService {
 
         log.info("Created task {} in Jira and DB", jiraKey);
 
-        return mapToResponse(savedTask);
+        return publishChange(savedTask, TaskChangedEvent.Type.CREATED);
     }
 
     @Transactional
     public TaskResponse createTaskFromText(User user, TextTaskRequest request) {
         validatePmRole(user);
 
-        List<String> teamMembers = user.getTeam().getMembers().stream()
-                .map(User::getUsername)
-                .collect(Collectors.toList());
+        TeamRoster roster = teamRosterService.getRoster(user);
 
         TaskExtractionResult extraction = aiService.extractTaskFromText(
                 request.getDescription(),
-                teamMembers
+                roster.getUsernames()
         );
 
         Task task = Task.builder()
@@ -78,10 +93,9 @@ public class TaskService {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        if (extraction.getAssigneeName() != null) {
-            userRepository.findByUsernameAndTeam(extraction.getAssigneeName(), user.getTeam())
-                    .ifPresent(task::setAssignee);
-        }
+        roster.resolveAssignee(extraction.getAssigneeName())
+                .flatMap(match -> userRepository.findById(match.getUserId()))
+                .ifPresent(task::setAssignee);
 
         String jiraKey = jiraService.createIssue(user, task);
         task.setJiraKey(jiraKey);
@@ -91,28 +105,43 @@ public class TaskService {
 
         log.info("Created task {} from text using AI", jiraKey);
 
-        return mapToResponse(savedTask);
+        return publishChange(savedTask, TaskChangedEvent.Type.CREATED);
     }
 
-    public List<TaskResponse> getTasks(User user, String status) {
-        List<Task> tasks;
+    @Transactional(readOnly = true)
+    public TaskPageResponse getTasks(User user, TaskFilter filter, String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        var spec = TaskSpecifications.forListing(
+                user.getTeam(),
+                filter,
+                cursor != null ? KeysetCursor.decode(cursor) : null
+        );
 
-        if (status != null) {
-            tasks = taskRepository.findByTeamAndStatus(
-                    user.getTeam(),
-                    TaskStatus.valueOf(status)
-            );
-        } else {
-            tasks = taskRepository.findByTeam(user.getTeam());
+        List<Task> tasks = taskRepository.findBy(spec, query -> query
+                .sortBy(KEYSET_SORT)
+                .project("assignee")
+                .limit(pageSize + 1)
+                .all());
+
+        String nextCursor = null;
+        if (tasks.size() > pageSize) {
+            tasks = tasks.subList(0, pageSize);
+            Task last = tasks.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
         }
 
-        return tasks.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return TaskPageResponse.builder()
+                .tasks(tasks.stream()
+                        .map(this::mapToResponse)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
     }
 
+    @Transactional(readOnly = true)
     public TaskResponse getTask(User user, Long taskId) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findWithAssigneeById(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
 
         validateTeamAccess(user, task);
@@ -124,11 +153,137 @@ public class TaskService {
     public TaskResponse updateTask(User user, Long taskId, UpdateTaskRequest request) {
         validatePmRole(user);
 
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findWithAssigneeById(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
 
         validateTeamAccess(user, task);
 
+        applyChanges(task, request, assigneeId -> userRepository.findById(assigneeId)
+                .orElseThrow(() -> new RuntimeException("Assignee not found")));
+
+        jiraService.updateIssue(user, task.getJiraKey(), task);
+
+        Task updatedTask = taskRepository.save(task);
+
+        log.info("Updated task {}", task.getJiraKey());
+
+        return publishChange(updatedTask, TaskChangedEvent.Type.UPDATED);
+    }
+
+    public BulkUpdateResponse bulkUpdateTasks(User user, BulkUpdateTaskRequest request) {
+        validatePmRole(user);
+
+        List<BulkTaskUpdate> updates = request.getUpdates() != null ? request.getUpdates() : List.of();
+        if (updates.size() > MAX_BULK_SIZE) {
+            throw new RuntimeException("At most " + MAX_BULK_SIZE + " tasks can be updated at once");
+        }
+
+        Set<Long> taskIds = updates.stream()
+                .map(BulkTaskUpdate::getTaskId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (taskIds.size() != updates.size()) {
+            throw new RuntimeException("Every update must reference a distinct taskId");
+        }
+
+        Map<Long, BulkUpdateItemResult> results = new LinkedHashMap<>();
+        List<Task> transitioned = new ArrayList<>();
+        List<Task> edited = new ArrayList<>();
+
+        List<Task> updated = transactionTemplate.execute(status -> {
+            Set<Long> assigneeIds = updates.stream()
+                    .map(BulkTaskUpdate::getAssigneeId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+
+            Map<Long, Task> tasks = taskRepository.findWithAssigneeByIdIn(taskIds).stream()
+                    .collect(Collectors.toMap(Task::getId, Function.identity()));
+            Map<Long, User> assignees = userRepository.findAllById(assigneeIds).stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity()));
+
+            List<Task> changed = new ArrayList<>();
+            for (BulkTaskUpdate update : updates) {
+                Task task = tasks.get(update.getTaskId());
+                try {
+                    if (task == null) {
+                        throw new RuntimeException("Task not found");
+                    }
+                    validateTeamAccess(user, task);
+
+                    applyChanges(task, update, assigneeId -> {
+                        User assignee = assignees.get(assigneeId);
+                        if (assignee == null) {
+                            throw new RuntimeException("Assignee not found");
+                        }
+                        return assignee;
+                    });
+
+                    if (update.getStatus() != null) {
+                        transitioned.add(task);
+                    }
+                    if (update.getSummary() != null || update.getDescription() != null) {
+                        edited.add(task);
+                    }
+                    changed.add(task);
+                    results.put(update.getTaskId(), BulkUpdateItemResult.builder()
+                            .taskId(update.getTaskId())
+                            .status("UPDATED")
+                            .build());
+
+                } catch (RuntimeException e) {
+                    if (task != null) {
+                        entityManager.detach(task);
+                    }
+                    results.put(update.getTaskId(), BulkUpdateItemResult.builder()
+                            .taskId(update.getTaskId())
+                            .status("FAILED")
+                            .error(e.getMessage())
+                            .build());
+                }
+            }
+
+            // flushed as JDBC batches, see hibernate.jdbc.batch_size
+            return taskRepository.saveAll(changed);
+        });
+
+        Map<String, String> jiraFailures = jiraService.bulkUpdateIssues(user, transitioned, edited);
+
+        for (Task task : updated) {
+            var result = results.get(task.getId());
+            result.setTask(mapToResponse(task));
+            eventPublisher.publishEvent(new TaskChangedEvent(
+                    task.getTeam().getId(), TaskChangedEvent.Type.UPDATED, result.getTask()));
+            String jiraError = jiraFailures.get(task.getJiraKey());
+            if (jiraError != null) {
+                result.setStatus("JIRA_SYNC_FAILED");
+                result.setError(jiraError);
+            }
+        }
+
+        if (!updated.isEmpty()) {
+            eventPublisher.publishEvent(new TeamDataChangedEvent(user.getTeam().getId()));
+        }
+
+        log.info("Bulk updated {} of {} tasks, {} Jira sync failures",
+                updated.size(), updates.size(), jiraFailures.size());
+
+        int failed = (int) results.values().stream().filter(r -> !"UPDATED".equals(r.getStatus())).count();
+
+        return BulkUpdateResponse.builder()
+                .updated(updated.size())
+                .failed(failed)
+                .results(new ArrayList<>(results.values()))
+                .build();
+    }
+
+    private TaskResponse publishChange(Task task, TaskChangedEvent.Type type) {
+        TaskResponse response = mapToResponse(task);
+        eventPublisher.publishEvent(new TeamDataChangedEvent(task.getTeam().getId()));
+        eventPublisher.publishEvent(new TaskChangedEvent(task.getTeam().getId(), type, response));
+        return response;
+    }
+
+    private void applyChanges(Task task, UpdateTaskRequest request, Function<Long, User> assigneeResolver) {
         if (request.getSummary() != null) {
             task.setSummary(request.getSummary());
         }
@@ -136,32 +291,29 @@ public class TaskService {
             task.setDescription(request.getDescription());
         }
         if (request.getStatus() != null) {
-            task.setStatus(TaskStatus.valueOf(request.getStatus()));
+            TaskStatus status = TaskStatus.valueOf(request.getStatus());
+            if (task.getStatus() == TaskStatus.DONE && status != TaskStatus.DONE) {
+                task.setOverdueNotifiedAt(null);
+            }
+            task.setStatus(status);
         }
         if (request.getPriority() != null) {
             task.setPriority(Priority.valueOf(request.getPriority()));
         }
         if (request.getDeadline() != null) {
+            if (!request.getDeadline().equals(task.getDeadline())) {
+                task.setOverdueNotifiedAt(null);
+            }
             task.setDeadline(request.getDeadline());
         }
         if (request.getAssigneeId() != null) {
-            User assignee = userRepository.findById(request.getAssigneeId())
-                    .orElseThrow(() -> new RuntimeException("Assignee not found"));
-            task.setAssignee(assignee);
+            task.setAssignee(assigneeResolver.apply(request.getAssigneeId()));
         }
 
         task.setUpdatedAt(LocalDateTime.now());
-
-        jiraService.updateIssue(user, task.getJiraKey(), task);
-
-        Task updatedTask = taskRepository.save(task);
-
-        log.info("Updated task {}", task.getJiraKey());
-
-        return mapToResponse(updatedTask);
     }
 
-    private TaskResponse mapToResponse(Task task) {
+    TaskResponse mapToResponse(Task task) {
         return TaskResponse.builder()
                 .id(task.getId())
                 .key(task.getJiraKey())
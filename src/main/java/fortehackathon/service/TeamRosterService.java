@@ -0,0 +1,77 @@
+package fortehackathon.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import fortehackathon.dto.TeamRoster;
+import fortehackathon.entity.Team;
+import fortehackathon.entity.User;
+import fortehackathon.event.TeamMembershipChangedEvent;
+import fortehackathon.repository.TeamDataVersionRepository;
+import fortehackathon.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TeamRosterService {
+
+    private final TeamRepository teamRepository;
+    private final TeamDataVersionRepository teamDataVersionRepository;
+    private final Cache<Long, TeamRoster> teamRosterCache;
+
+    public TeamRoster getRoster(User user) {
+        if (user.getTeam() == null) {
+            throw new RuntimeException("You are not part of any team");
+        }
+        return getRoster(user.getTeam().getId());
+    }
+
+    // the version lives in the database, so other instances see membership changes on their next read
+    public TeamRoster getRoster(Long teamId) {
+        long version = teamDataVersionRepository.findRosterVersion(teamId).orElse(0L);
+
+        TeamRoster cached = teamRosterCache.getIfPresent(teamId);
+        if (cached != null && cached.getVersion() >= version) {
+            return cached;
+        }
+
+        return teamRosterCache.asMap().compute(teamId, (id, current) ->
+                current != null && current.getVersion() >= version ? current : build(id, version));
+    }
+
+    // runs inside the publishing transaction, so the new version commits together with the change
+    @EventListener
+    public void onMembershipChanged(TeamMembershipChangedEvent event) {
+        teamDataVersionRepository.incrementRoster(event.getTeamId());
+    }
+
+    private TeamRoster build(Long teamId, long version) {
+        Team team = teamRepository.findWithMembersById(teamId)
+                .orElseThrow(() -> new RuntimeException("Team not found"));
+
+        var members = team.getMembers().stream()
+                .sorted(Comparator.comparing(User::getUsername))
+                .map(u -> new TeamRoster.Member(
+                        u.getId(),
+                        u.getUsername(),
+                        u.getEmail(),
+                        u.getRole() != null ? u.getRole().name() : null,
+                        u.getJiraUsername()))
+                .toList();
+
+        log.debug("Built roster for team {} at version {} with {} members", teamId, version, members.size());
+
+        return new TeamRoster(
+                team.getId(),
+                version,
+                team.getName(),
+                team.getProjectManager() != null ? team.getProjectManager().getUsername() : null,
+                team.getJiraProjectKey(),
+                members
+        );
+    }
+}
@@ -2,9 +2,12 @@ package fortehackathon.service;
 
 import fortehackathon.dto.*;
 import fortehackathon.entity.*;
+import fortehackathon.event.TeamDataChangedEvent;
+import fortehackathon.event.TeamMembershipChangedEvent;
 import fortehackathon.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +25,8 @@ public class TeamService {
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TeamRosterService teamRosterService;
 
     @Transactional
     public TeamResponse createTeam(User pm, CreateTeamRequest request) {
@@ -47,6 +52,8 @@ public class TeamService {
 
         log.info("Team {} created by PM {}", team.getName(), pm.getUsername());
 
+        eventPublisher.publishEvent(new TeamMembershipChangedEvent(team.getId()));
+
         return mapToResponse(team);
     }
 
@@ -73,25 +80,20 @@ public class TeamService {
 
         log.info("Added member {} to team {}", member.getUsername(), pm.getTeam().getName());
 
+        eventPublisher.publishEvent(new TeamDataChangedEvent(pm.getTeam().getId()));
+        eventPublisher.publishEvent(new TeamMembershipChangedEvent(pm.getTeam().getId()));
+
         return mapMemberToResponse(member);
     }
 
+    @Transactional(readOnly = true)
     public TeamResponse getTeam(User user) {
-        if (user.getTeam() == null) {
-            throw new RuntimeException("You are not part of any team");
-        }
-
-        return mapToResponse(user.getTeam());
+        return teamRosterService.getRoster(user).getTeam();
     }
 
+    @Transactional(readOnly = true)
     public List<TeamMemberResponse> getMembers(User user) {
-        if (user.getTeam() == null) {
-            throw new RuntimeException("You are not part of any team");
-        }
-
-        return user.getTeam().getMembers().stream()
-                .map(this::mapMemberToResponse)
-                .collect(Collectors.toList());
+        return teamRosterService.getRoster(user).getMemberResponses();
     }
 
     @Transactional
@@ -113,6 +115,9 @@ public class TeamService {
         userRepository.save(member);
 
         log.info("Removed member {} from team {}", member.getUsername(), pm.getTeam().getName());
+
+        eventPublisher.publishEvent(new TeamDataChangedEvent(pm.getTeam().getId()));
+        eventPublisher.publishEvent(new TeamMembershipChangedEvent(pm.getTeam().getId()));
     }
 
     private User createNewMember(AddTeamMemberRequest request, Team team) {
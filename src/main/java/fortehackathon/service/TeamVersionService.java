@@ -0,0 +1,47 @@
+package fortehackathon.service;
+
+import fortehackathon.entity.TeamDataVersion;
+import fortehackathon.entity.User;
+import fortehackathon.event.TeamDataChangedEvent;
+import fortehackathon.repository.TeamDataVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+@Service
+@RequiredArgsConstructor
+public class TeamVersionService {
+
+    private final TeamDataVersionRepository teamDataVersionRepository;
+
+    // bumped in its own short transaction after the change commits: inside a long analyze transaction the
+    // upsert would hold the team's version row lock until the LLM call returns. An ETag read in between
+    // pairs the new data with the old version, which the next bump invalidates, never the other way round
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTeamDataChanged(TeamDataChangedEvent event) {
+        teamDataVersionRepository.increment(event.getTeamId());
+    }
+
+    public String etag(User user, String resource, String variant) {
+        if (user.getTeam() == null) {
+            throw new RuntimeException("You are not part of any team");
+        }
+
+        // read fresh rather than from the cached Team, other instances may have bumped it
+        long version = teamDataVersionRepository.findById(user.getTeam().getId())
+                .map(TeamDataVersion::getVersion)
+                .orElse(0L);
+
+        var crc = new CRC32();
+        crc.update((resource + "?" + (variant != null ? variant : "")).getBytes(StandardCharsets.UTF_8));
+
+        return "\"" + user.getTeam().getId() + "-" + version
+               + "-" + Long.toHexString(crc.getValue()) + "\"";
+    }
+}
@@ -0,0 +1,68 @@
+package fortehackathon.service;
+
+import fortehackathon.dto.OverdueDigest;
+import fortehackathon.event.OverdueTasksEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TelegramNotificationService {
+
+    private static final int MAX_DIGEST_LINES = 30;
+
+    private final RestTemplate restTemplate;
+
+    @Value("${telegram.url:https://api.telegram.org}")
+    private String telegramUrl;
+
+    @Value("${telegram.bot-token:}")
+    private String botToken;
+
+    @TransactionalEventListener
+    public void onOverdueTasks(OverdueTasksEvent event) {
+        for (OverdueDigest digest : event.getDigests()) {
+            sendMessage(digest.getTelegramId(), formatDigest(digest));
+        }
+    }
+
+    public void sendMessage(Long chatId, String text) {
+        if (botToken.isBlank()) {
+            log.info("Telegram bot token is not configured, skipping message to {}", chatId);
+            return;
+        }
+
+        try {
+            // templated so the token stays out of the http.client.requests uri tag and spans
+            restTemplate.postForEntity(
+                    telegramUrl + "/bot{token}/sendMessage",
+                    Map.of("chat_id", chatId, "text", text),
+                    String.class,
+                    botToken
+            );
+        } catch (Exception e) {
+            log.error("Error sending Telegram message to {}", chatId, e);
+        }
+    }
+
+    private String formatDigest(OverdueDigest digest) {
+        var lines = digest.getLines();
+        var sb = new StringBuilder("Просроченные задачи (").append(lines.size()).append("):\n");
+
+        lines.stream()
+                .limit(MAX_DIGEST_LINES)
+                .forEach(line -> sb.append("• ").append(line).append('\n'));
+
+        if (lines.size() > MAX_DIGEST_LINES) {
+            sb.append("…и ещё ").append(lines.size() - MAX_DIGEST_LINES);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,171 @@
+package fortehackathon.util;
+
+import fortehackathon.dto.AssigneeMatch;
+import fortehackathon.dto.TeamRoster;
+
+import java.util.*;
+
+// precomputed name variants of a roster, so resolving LLM-provided names never touches the database
+public class AssigneeIndex {
+
+    public static final double MIN_CONFIDENCE = 0.6;
+
+    private static final double EXACT = 1.0;
+    private static final double NORMALIZED = 0.95;
+    private static final double TOKEN = 0.9;
+    private static final double PREFIX = 0.75;
+    private static final double TRIGRAM_WEIGHT = 0.85;
+    // a runner-up this close to the best candidate makes the match too ambiguous to assign
+    private static final double AMBIGUITY_MARGIN = 0.05;
+    private static final int MIN_PREFIX_LENGTH = 3;
+
+    private final List<Entry> entries;
+    private final Map<String, TeamRoster.Member> byUsername = new HashMap<>();
+    private final Map<String, Set<Integer>> byVariant = new HashMap<>();
+    private final Map<String, Set<Integer>> byToken = new HashMap<>();
+    private final Map<String, Set<Integer>> byTrigram = new HashMap<>();
+
+    public AssigneeIndex(List<TeamRoster.Member> members) {
+        this.entries = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            var member = members.get(i);
+            byUsername.putIfAbsent(member.username(), member);
+
+            Set<String> variants = new LinkedHashSet<>();
+            variants.add(NameNormalizer.normalize(member.username()));
+            variants.add(NameNormalizer.normalize(member.email()));
+            variants.add(NameNormalizer.normalize(member.jiraUsername()));
+            variants.remove("");
+
+            Set<String> tokens = new HashSet<>();
+            Set<String> trigrams = new HashSet<>();
+            for (String variant : variants) {
+                tokens.addAll(NameNormalizer.tokens(variant));
+                trigrams.addAll(NameNormalizer.trigrams(variant));
+                byVariant.computeIfAbsent(variant, v -> new HashSet<>()).add(i);
+            }
+            for (String token : tokens) {
+                byToken.computeIfAbsent(token, t -> new HashSet<>()).add(i);
+            }
+            for (String trigram : trigrams) {
+                byTrigram.computeIfAbsent(trigram, t -> new HashSet<>()).add(i);
+            }
+
+            entries.add(new Entry(member, variants.stream().map(NameNormalizer::trigrams).toList(), Set.copyOf(tokens)));
+        }
+    }
+
+    public Map<String, AssigneeMatch> matchAll(Collection<String> names) {
+        Map<String, AssigneeMatch> matches = new HashMap<>();
+        for (String name : names) {
+            if (name != null && !matches.containsKey(name)) {
+                match(name).ifPresent(match -> matches.put(name, match));
+            }
+        }
+        return matches;
+    }
+
+    public Optional<AssigneeMatch> match(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+
+        var exact = byUsername.get(name.strip());
+        if (exact != null) {
+            return Optional.of(toMatch(exact, EXACT, "username"));
+        }
+
+        String normalized = NameNormalizer.normalize(name);
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Integer> sameVariant = byVariant.getOrDefault(normalized, Set.of());
+        if (sameVariant.size() == 1) {
+            return Optional.of(toMatch(entries.get(sameVariant.iterator().next()).member, NORMALIZED, "normalized"));
+        }
+
+        List<String> tokens = NameNormalizer.tokens(normalized);
+        Set<String> trigrams = NameNormalizer.trigrams(normalized);
+
+        // only members sharing a token or a trigram with the name are scored
+        Set<Integer> candidates = new HashSet<>();
+        for (String token : tokens) {
+            candidates.addAll(byToken.getOrDefault(token, Set.of()));
+        }
+        for (String trigram : trigrams) {
+            candidates.addAll(byTrigram.getOrDefault(trigram, Set.of()));
+        }
+
+        Entry best = null;
+        double bestScore = 0;
+        String bestReason = null;
+        double runnerUp = 0;
+
+        for (int candidate : candidates) {
+            var entry = entries.get(candidate);
+            double score = 0;
+            String reason = null;
+
+            if (entry.tokens.containsAll(tokens)) {
+                score = TOKEN;
+                reason = "token";
+            } else if (prefixMatch(tokens, entry.tokens)) {
+                score = PREFIX;
+                reason = "prefix";
+            }
+
+            for (Set<String> variant : entry.variantTrigrams) {
+                double similarity = TRIGRAM_WEIGHT * NameNormalizer.similarity(trigrams, variant);
+                if (similarity > score) {
+                    score = similarity;
+                    reason = "trigram";
+                }
+            }
+
+            if (score > bestScore) {
+                runnerUp = bestScore;
+                best = entry;
+                bestScore = score;
+                bestReason = reason;
+            } else if (score > runnerUp) {
+                runnerUp = score;
+            }
+        }
+
+        if (best == null || bestScore < MIN_CONFIDENCE || bestScore - runnerUp < AMBIGUITY_MARGIN) {
+            return Optional.empty();
+        }
+        return Optional.of(toMatch(best.member, bestScore, bestReason));
+    }
+
+    private boolean prefixMatch(List<String> tokens, Set<String> memberTokens) {
+        for (String token : tokens) {
+            boolean found = false;
+            for (String memberToken : memberTokens) {
+                String shorter = token.length() < memberToken.length() ? token : memberToken;
+                String longer = shorter == token ? memberToken : token;
+                if (shorter.length() >= MIN_PREFIX_LENGTH && longer.startsWith(shorter)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return !tokens.isEmpty();
+    }
+
+    private AssigneeMatch toMatch(TeamRoster.Member member, double confidence, String matchedBy) {
+        return AssigneeMatch.builder()
+                .userId(member.id())
+                .username(member.username())
+                .confidence(confidence)
+                .matchedBy(matchedBy)
+                .build();
+    }
+
+    private record Entry(TeamRoster.Member member, List<Set<String>> variantTrigrams, Set<String> tokens) {
+    }
+}
@@ -3,6 +3,7 @@ package fortehackathon.util;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import fortehackathon.dto.TaskExtractionResult;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -16,19 +17,34 @@ import java.util.List;
 public class JsonParser {
 
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     public TaskExtractionResult parseTaskExtraction(String jsonResponse) throws Exception {
-        JsonNode node = objectMapper.readTree(jsonResponse);
-        return parseNode(node);
+        try {
+            JsonNode node = objectMapper.readTree(jsonResponse);
+            return parseNode(node);
+        } catch (Exception e) {
+            parseFailure("single");
+            throw e;
+        }
     }
 
     public List<TaskExtractionResult> parseMultipleTasks(String jsonResponse) throws Exception {
-        JsonNode arrayNode = objectMapper.readTree(jsonResponse);
-        List<TaskExtractionResult> results = new ArrayList<>();
-        for (JsonNode node : arrayNode) {
-            results.add(parseNode(node));
+        try {
+            JsonNode arrayNode = objectMapper.readTree(jsonResponse);
+            List<TaskExtractionResult> results = new ArrayList<>();
+            for (JsonNode node : arrayNode) {
+                results.add(parseNode(node));
+            }
+            return results;
+        } catch (Exception e) {
+            parseFailure("multiple");
+            throw e;
         }
-        return results;
+    }
+
+    private void parseFailure(String kind) {
+        meterRegistry.counter("llm.parse.failures", "kind", kind).increment();
     }
 
     private TaskExtractionResult parseNode(JsonNode node) {
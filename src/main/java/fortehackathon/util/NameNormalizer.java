@@ -0,0 +1,87 @@
+package fortehackathon.util;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+public final class NameNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z]+");
+    private static final Pattern DOUBLED = Pattern.compile("([a-z])\\1+");
+
+    // Russian and Kazakh Cyrillic, close to the romanisation people use for their logins
+    private static final Map<Character, String> CYRILLIC = new HashMap<>();
+
+    static {
+        String[][] pairs = {
+                {"а", "a"}, {"ә", "a"}, {"б", "b"}, {"в", "v"}, {"г", "g"}, {"ғ", "g"}, {"д", "d"},
+                {"е", "e"}, {"ё", "e"}, {"ж", "zh"}, {"з", "z"}, {"и", "i"}, {"й", "i"}, {"к", "k"},
+                {"қ", "k"}, {"л", "l"}, {"м", "m"}, {"н", "n"}, {"ң", "n"}, {"о", "o"}, {"ө", "o"},
+                {"п", "p"}, {"р", "r"}, {"с", "s"}, {"т", "t"}, {"у", "u"}, {"ұ", "u"}, {"ү", "u"},
+                {"ф", "f"}, {"х", "kh"}, {"һ", "h"}, {"ц", "ts"}, {"ч", "ch"}, {"ш", "sh"},
+                {"щ", "shch"}, {"ъ", ""}, {"ы", "y"}, {"і", "i"}, {"ь", ""}, {"э", "e"}, {"ю", "yu"},
+                {"я", "ya"}
+        };
+        for (String[] pair : pairs) {
+            CYRILLIC.put(pair[0].charAt(0), pair[1]);
+        }
+    }
+
+    private NameNormalizer() {
+    }
+
+    // "Айдар К." -> "aidar k", "aidar.k@corp" -> "aidar k"
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+
+        String value = name.strip().toLowerCase(Locale.ROOT);
+        int at = value.indexOf('@');
+        if (at > 0) {
+            value = value.substring(0, at);
+        }
+
+        var latin = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            String replacement = CYRILLIC.get(c);
+            latin.append(replacement != null ? replacement : String.valueOf(c));
+        }
+
+        value = COMBINING_MARKS.matcher(Normalizer.normalize(latin, Normalizer.Form.NFD)).replaceAll("");
+        // Dmitriy, Dmitrij, Dmitry and Дмитрий all fold to "dmitri"
+        value = value.replace('y', 'i').replace('j', 'i');
+        value = DOUBLED.matcher(value).replaceAll("$1");
+        return SEPARATORS.matcher(value).replaceAll(" ").strip();
+    }
+
+    public static List<String> tokens(String normalized) {
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return List.of(normalized.split(" "));
+    }
+
+    public static Set<String> trigrams(String normalized) {
+        String padded = "  " + normalized + " ";
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    public static double similarity(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        int shared = 0;
+        for (String trigram : a) {
+            if (b.contains(trigram)) {
+                shared++;
+            }
+        }
+        return (double) shared / (a.size() + b.size() - shared);
+    }
+}
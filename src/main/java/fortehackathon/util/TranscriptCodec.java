@@ -0,0 +1,78 @@
+package fortehackathon.util;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+public final class TranscriptCodec {
+
+    // zlib-wrapped deflate, the same format as the HTTP "deflate" content coding
+    public static final String DEFLATE = "deflate";
+    public static final String IDENTITY = "identity";
+
+    private TranscriptCodec() {
+    }
+
+    public static byte[] compress(String text) {
+        var bytes = new ByteArrayOutputStream();
+        var deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (var out = new DeflaterOutputStream(bytes, deflater)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    // Accept-Encoding per RFC 9110: "deflate;q=0" refuses the coding, an exact entry overrides "*"
+    public static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+
+        Double exact = null;
+        Double wildcard = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String name = parts[0].strip().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if (name.equals(coding)) {
+                exact = exact == null ? quality : Math.max(exact, quality);
+            } else if (name.equals("*")) {
+                wildcard = quality;
+            }
+        }
+
+        Double quality = exact != null ? exact : wildcard;
+        return quality != null && quality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].strip();
+            if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).strip());
+                } catch (NumberFormatException e) {
+                    // a q-value we can't read is no reason to send a coding the client may not handle
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    public static InputStream open(String encoding, byte[] content) {
+        var raw = new ByteArrayInputStream(content);
+        return switch (encoding) {
+            case DEFLATE -> new InflaterInputStream(raw);
+            case IDENTITY -> raw;
+            default -> throw new RuntimeException("Unsupported transcript encoding: " + encoding);
+        };
+    }
+}
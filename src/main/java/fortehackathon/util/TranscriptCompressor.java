@@ -0,0 +1,148 @@
+package fortehackathon.util;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// deterministic cleanup of raw transcripts before they are sent to the LLM;
+// only drops tokens that carry no meaning for task extraction
+public final class TranscriptCompressor {
+
+    private static final Pattern VTT_HEADER = Pattern.compile("^WEBVTT.*$");
+    private static final Pattern CUE_NUMBER = Pattern.compile("^\\d+$");
+    private static final Pattern CUE_TIMING = Pattern.compile(
+            "^\\d{1,2}:\\d{2}(:\\d{2})?([.,]\\d{1,3})?\\s*-->\\s*\\d{1,2}:\\d{2}(:\\d{2})?([.,]\\d{1,3})?.*$");
+    // [00:01], (12:03), 00:01:23.450 - bare mm:ss is left alone, "12:00 works for me" is content
+    private static final Pattern TIMESTAMP = Pattern.compile(
+            "(?:[\\[(]\\d{1,2}:\\d{2}(?::\\d{2})?(?:[.,]\\d{1,3})?[\\])]|\\d{1,2}:\\d{2}:\\d{2}(?:[.,]\\d{1,3})?)\\s*[-–—]?\\s*");
+    private static final Pattern BARE_TIMESTAMP = Pattern.compile("^\\d{1,2}:\\d{2}(:\\d{2})?([.,]\\d{1,3})?$");
+    // "Aidar  0:01" on its own line, the speaker header of Otter/Zoom exports
+    private static final Pattern SPEAKER_HEADER = Pattern.compile(
+            "^([\\p{L}][\\p{L}\\p{N}._'-]*(?: [\\p{L}\\p{N}._'-]+){0,2})\\s+[\\[(]?\\d{1,2}:\\d{2}(:\\d{2})?([.,]\\d{1,3})?[\\])]?$");
+    // speaker names are at most three words without digits, so "We have three items: ..." and
+    // "Deploy at 10:30" stay content
+    private static final Pattern SPEAKER = Pattern.compile(
+            "^(?:<v\\s+)?([\\p{L}][\\p{L}._'-]*(?: [\\p{L}._'-]+){0,2})\\s*(?:>|:)\\s*(.*)$");
+    private static final Pattern NOISE = Pattern.compile(
+            "[\\[(](?iu:crosstalk|inaudible|laughter|laughs|silence|music|noise|pause|неразборчиво|смех|тишина|шум)[\\])]");
+    // only sounds that are never words; case is not folded, "UM", "ER", "HM" or "5 m" are content.
+    // One of the commas around a filler goes with it, so "Ну, э, Дмитрий" keeps its comma
+    private static final String FILLER =
+            "(?<![\\p{L}\\p{N}-])(?:[Uu]h-huh|[Mm]m-hmm|[Mm]hm|[Hh]mm+|[Uu]mm*|[Uu]hh*|[Ee]rm+|[Ээ]м*)(?![\\p{L}\\p{N}-])";
+    private static final Pattern FILLERS = Pattern.compile("(?u),\\s*" + FILLER + "|" + FILLER + "[,…]*");
+    // a word said three or more times in a row is a stutter; "that that" is often grammatical
+    private static final Pattern REPEATED_WORD = Pattern.compile(
+            "(?iu)(?<![\\p{L}\\p{N}])([\\p{L}']+)(?:[,\\s]+\\1){2,}(?![\\p{L}\\p{N}])");
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?…])\\s+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N} ]");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final Pattern DANGLING_PUNCTUATION = Pattern.compile("^[\\s,.;:…-]+|\\s+(?=[,.;:!?])");
+
+    // ASR often repeats a speaker's sentence a few utterances later; only exact repeats by the same
+    // speaker are dropped, a one-word difference ("not") or another speaker saying it is content
+    private static final int DEDUPE_WINDOW = 16;
+
+    private TranscriptCompressor() {
+    }
+
+    public static String compress(String transcript) {
+        if (transcript == null || transcript.isBlank()) {
+            return "";
+        }
+
+        List<Utterance> utterances = new ArrayList<>();
+        Deque<String> recent = new ArrayDeque<>();
+        String speaker = null;
+        // once a transcript uses "Name  0:01" headers, a colon in a following line is content
+        boolean headers = false;
+
+        for (String rawLine : transcript.split("\\R")) {
+            String line = rawLine.strip();
+            if (line.isEmpty() || VTT_HEADER.matcher(line).matches()
+                    || CUE_NUMBER.matcher(line).matches() || CUE_TIMING.matcher(line).matches()
+                    || BARE_TIMESTAMP.matcher(line).matches()) {
+                continue;
+            }
+
+            Matcher header = SPEAKER_HEADER.matcher(line);
+            if (header.matches()) {
+                speaker = header.group(1).strip();
+                headers = true;
+                continue;
+            }
+
+            line = stripLeadingTimestamps(line);
+            Matcher tag = SPEAKER.matcher(line);
+            if (!headers && tag.matches() && !tag.group(2).isEmpty()) {
+                speaker = tag.group(1).strip();
+                line = stripLeadingTimestamps(tag.group(2));
+            }
+
+            String text = dedupe(speaker, clean(line), recent);
+            if (text.isEmpty()) {
+                continue;
+            }
+
+            Utterance last = utterances.isEmpty() ? null : utterances.get(utterances.size() - 1);
+            if (last != null && Objects.equals(last.speaker, speaker)) {
+                last.text.append(' ').append(text);
+            } else {
+                utterances.add(new Utterance(speaker, new StringBuilder(text)));
+            }
+        }
+
+        var result = new StringBuilder();
+        for (Utterance utterance : utterances) {
+            if (!result.isEmpty()) {
+                result.append('\n');
+            }
+            if (utterance.speaker != null) {
+                result.append(utterance.speaker).append(": ");
+            }
+            result.append(utterance.text);
+        }
+        return result.toString();
+    }
+
+    private static String stripLeadingTimestamps(String line) {
+        Matcher matcher = TIMESTAMP.matcher(line);
+        int end = 0;
+        while (matcher.find(end) && matcher.start() == end) {
+            end = matcher.end();
+        }
+        return line.substring(end);
+    }
+
+    private static String dedupe(String speaker, String text, Deque<String> recent) {
+        var kept = new StringJoiner(" ");
+        for (String sentence : SENTENCE_END.split(text)) {
+            String normalized = NON_WORD.matcher(sentence.toLowerCase(Locale.ROOT)).replaceAll("");
+            normalized = SPACES.matcher(normalized).replaceAll(" ").strip();
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            String key = speaker + '\u0000' + normalized;
+            if (recent.contains(key)) {
+                continue;
+            }
+            recent.addLast(key);
+            if (recent.size() > DEDUPE_WINDOW) {
+                recent.removeFirst();
+            }
+            kept.add(sentence);
+        }
+        return kept.toString();
+    }
+
+    private static String clean(String text) {
+        text = NOISE.matcher(text).replaceAll(" ");
+        text = FILLERS.matcher(text).replaceAll(" ");
+        text = REPEATED_WORD.matcher(text).replaceAll("$1");
+        text = SPACES.matcher(text).replaceAll(" ");
+        text = DANGLING_PUNCTUATION.matcher(text).replaceAll("");
+        return text.strip();
+    }
+
+    private record Utterance(String speaker, StringBuilder text) {
+    }
+}
@@ -0,0 +1,24 @@
+-- one row per job submitted to the OpenAI Batch API
+CREATE TABLE extraction_batches (
+    id BIGSERIAL PRIMARY KEY,
+    external_id VARCHAR(100) NOT NULL UNIQUE,
+    input_file_id VARCHAR(100) NOT NULL,
+    output_file_id VARCHAR(100),
+    error_file_id VARCHAR(100),
+    status VARCHAR(30) NOT NULL,
+    request_count INT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP
+);
+
+-- meetings queued for offline extraction; batch_id is null until the next submission picks them up
+CREATE TABLE batch_extraction_requests (
+    meeting_id BIGINT PRIMARY KEY REFERENCES meetings(id) ON DELETE CASCADE,
+    username VARCHAR(255) NOT NULL,
+    batch_id BIGINT REFERENCES extraction_batches(id),
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_batch_extraction_requests_pending
+    ON batch_extraction_requests(created_at) WHERE batch_id IS NULL;
+CREATE INDEX idx_batch_extraction_requests_batch_id ON batch_extraction_requests(batch_id);
@@ -0,0 +1,16 @@
+ALTER TABLE tasks
+    ADD COLUMN search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', coalesce(summary, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+        ) STORED;
+
+ALTER TABLE meetings
+    ADD COLUMN search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', coalesce(summary, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(transcription, '')), 'B')
+        ) STORED;
+
+CREATE INDEX idx_tasks_search_vector ON tasks USING GIN (search_vector);
+CREATE INDEX idx_meetings_search_vector ON meetings USING GIN (search_vector);
@@ -0,0 +1,3 @@
+-- covers the meeting history listing, status filtering happens on the included column
+CREATE INDEX idx_meetings_team_uploaded_id ON meetings(team_id, uploaded_at DESC, id DESC)
+    INCLUDE (processing_status, file_name, processed_at);
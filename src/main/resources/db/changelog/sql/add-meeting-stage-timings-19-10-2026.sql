@@ -0,0 +1,14 @@
+-- per-meeting pipeline timings, one row per stage; repeated calls (e.g. one Jira issue per task) are summed
+CREATE TABLE meeting_stage_timings (
+    id BIGSERIAL PRIMARY KEY,
+    meeting_id BIGINT NOT NULL REFERENCES meetings(id) ON DELETE CASCADE,
+    stage VARCHAR(50) NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    duration_ms BIGINT NOT NULL,
+    calls INT NOT NULL,
+    outcome VARCHAR(20) NOT NULL
+);
+
+ALTER SEQUENCE meeting_stage_timings_id_seq INCREMENT BY 50;
+
+CREATE INDEX idx_meeting_stage_timings_meeting_id ON meeting_stage_timings(meeting_id);
@@ -0,0 +1,7 @@
+-- last status change, lets the startup sweep tell abandoned meetings from ones still in flight
+ALTER TABLE meetings ADD COLUMN updated_at TIMESTAMP;
+
+UPDATE meetings SET updated_at = coalesce(processed_at, uploaded_at, now());
+
+CREATE INDEX idx_meetings_unfinished_updated ON meetings(updated_at)
+    WHERE processing_status IN ('UPLOADED', 'PROCESSING');
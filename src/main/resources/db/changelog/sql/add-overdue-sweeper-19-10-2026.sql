@@ -0,0 +1,12 @@
+CREATE TABLE overdue_sweep_state (
+    name VARCHAR(64) PRIMARY KEY,
+    watermark_deadline TIMESTAMP NOT NULL,
+    watermark_task_id BIGINT NOT NULL,
+    updated_at TIMESTAMP
+);
+
+INSERT INTO overdue_sweep_state (name, watermark_deadline, watermark_task_id, updated_at)
+VALUES ('overdue', now(), 0, now());
+
+CREATE INDEX idx_tasks_open_deadline_id ON tasks(deadline, id)
+    WHERE status <> 'DONE' AND deadline IS NOT NULL;
@@ -0,0 +1,4 @@
+CREATE INDEX idx_tasks_team_open_deadline ON tasks(team_id, deadline)
+    WHERE status <> 'DONE' AND deadline IS NOT NULL;
+
+CREATE INDEX idx_tasks_team_status_priority_assignee ON tasks(team_id, status, priority, assignee_id);
@@ -0,0 +1,5 @@
+CREATE INDEX idx_tasks_team_created_id ON tasks(team_id, created_at DESC, id DESC);
+CREATE INDEX idx_tasks_team_status_created_id ON tasks(team_id, status, created_at DESC, id DESC);
+CREATE INDEX idx_tasks_team_assignee_created_id ON tasks(team_id, assignee_id, created_at DESC, id DESC);
+CREATE INDEX idx_tasks_team_priority_created_id ON tasks(team_id, priority, created_at DESC, id DESC);
+CREATE INDEX idx_tasks_team_deadline ON tasks(team_id, deadline);
@@ -0,0 +1,17 @@
+-- the sweeper marks each task it announces instead of walking a deadline watermark, which skipped tasks
+-- created, imported or reopened with a deadline already behind it
+ALTER TABLE tasks ADD COLUMN overdue_notified_at TIMESTAMP;
+
+UPDATE tasks t SET overdue_notified_at = s.updated_at
+FROM overdue_sweep_state s
+WHERE s.name = 'overdue'
+  AND t.status <> 'DONE'
+  AND t.deadline <= s.watermark_deadline;
+
+DROP INDEX idx_tasks_open_deadline_id;
+
+CREATE INDEX idx_tasks_overdue_pending ON tasks(deadline, id)
+    WHERE status <> 'DONE' AND deadline IS NOT NULL AND overdue_notified_at IS NULL;
+
+ALTER TABLE overdue_sweep_state DROP COLUMN watermark_deadline;
+ALTER TABLE overdue_sweep_state DROP COLUMN watermark_task_id;
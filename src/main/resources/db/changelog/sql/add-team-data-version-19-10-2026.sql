@@ -0,0 +1 @@
+ALTER TABLE teams ADD COLUMN data_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- bumped only on membership changes, unlike version which follows every team data change
+ALTER TABLE team_data_versions ADD COLUMN roster_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,23 @@
+CREATE TABLE meeting_transcripts (
+    meeting_id BIGINT PRIMARY KEY REFERENCES meetings(id) ON DELETE CASCADE,
+    encoding VARCHAR(16) NOT NULL,
+    original_size INTEGER NOT NULL,
+    compressed_size INTEGER NOT NULL,
+    content BYTEA NOT NULL,
+    created_at TIMESTAMP
+);
+
+-- content is compressed by the application already, skip TOAST compression
+ALTER TABLE meeting_transcripts ALTER COLUMN content SET STORAGE EXTERNAL;
+
+-- existing rows are copied uncompressed, readers handle both encodings
+INSERT INTO meeting_transcripts (meeting_id, encoding, original_size, compressed_size, content, created_at)
+SELECT id, 'identity', octet_length(transcription), octet_length(transcription),
+       convert_to(transcription, 'UTF8'), coalesce(processed_at, uploaded_at)
+FROM meetings
+WHERE transcription IS NOT NULL;
+
+-- the search vector can no longer be derived from the row, it is maintained on write instead
+ALTER TABLE meetings ALTER COLUMN search_vector DROP EXPRESSION;
+
+ALTER TABLE meetings DROP COLUMN transcription;
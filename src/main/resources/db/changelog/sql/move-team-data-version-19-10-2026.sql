@@ -0,0 +1,10 @@
+-- kept out of teams so bumping the version does not evict cached Team entities
+CREATE TABLE team_data_versions (
+    team_id BIGINT PRIMARY KEY REFERENCES teams(id) ON DELETE CASCADE,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO team_data_versions (team_id, version)
+SELECT id, data_version FROM teams;
+
+ALTER TABLE teams DROP COLUMN data_version;
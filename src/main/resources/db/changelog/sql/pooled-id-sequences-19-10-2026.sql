@@ -0,0 +1,4 @@
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE teams_id_seq INCREMENT BY 50;
+ALTER SEQUENCE meetings_id_seq INCREMENT BY 50;
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
@@ -0,0 +1,77 @@
+package fortehackathon.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// the handful of Jira Cloud REST endpoints JiraService calls
+class JiraStub extends StubServer {
+
+    private static final String ISSUE = "/rest/api/3/issue";
+
+    private static final String BULK_QUEUE = "/rest/api/3/bulk/queue/";
+
+    private final AtomicLong issues = new AtomicLong(1000);
+    // bulk task id -> ids of the issues it transitions, all of them succeed
+    private final Map<String, List<String>> bulkTasks = new ConcurrentHashMap<>();
+
+    JiraStub(PerfStubProperties.Stub settings) throws IOException {
+        super("Jira", settings);
+    }
+
+    @Override
+    protected Reply handle(String method, String path, JsonNode body) throws IOException {
+        if ("GET".equals(method) && path.equals("/rest/api/3/myself")) {
+            return Reply.json(200, "{\"accountId\":\"perf\",\"active\":true}");
+        }
+        if ("POST".equals(method) && path.equals(ISSUE)) {
+            long id = issues.incrementAndGet();
+            String project = body.path("fields").path("project").path("key").asText("PERF");
+            return Reply.json(201, "{\"id\":\"" + id + "\",\"key\":\"" + project + "-" + id
+                    + "\",\"self\":\"" + url() + ISSUE + "/" + id + "\"}");
+        }
+        if ("POST".equals(method) && path.startsWith(ISSUE + "/") && path.endsWith("/transitions")) {
+            return Reply.empty(204);
+        }
+        if ("PUT".equals(method) && path.startsWith(ISSUE + "/")) {
+            return Reply.empty(204);
+        }
+        if ("POST".equals(method) && path.equals("/rest/api/3/bulk/issues/transition")) {
+            String taskId = String.valueOf(issues.incrementAndGet());
+            List<String> ids = new ArrayList<>();
+            body.path("bulkTransitionInputs").forEach(input ->
+                    input.path("selectedIssueIdsOrKeys").forEach(key -> ids.add(issueId(key.asText()))));
+            bulkTasks.put(taskId, ids);
+            return Reply.json(201, "{\"taskId\":\"" + taskId + "\"}");
+        }
+        if ("GET".equals(method) && path.startsWith(BULK_QUEUE)) {
+            List<String> ids = bulkTasks.remove(path.substring(BULK_QUEUE.length()));
+            if (ids == null) {
+                return Reply.error(404, "Unknown bulk task " + path);
+            }
+            return Reply.json(200, objectMapper.writeValueAsString(Map.of(
+                    "status", "COMPLETE",
+                    "progressPercent", 100,
+                    "processedAccessibleIssues", ids.stream().map(Long::parseLong).toList(),
+                    "failedAccessibleIssues", Map.of(),
+                    "totalIssueCount", ids.size())));
+        }
+        if ("POST".equals(method) && path.equals(ISSUE + "/bulkfetch")) {
+            List<Map<String, String>> found = new ArrayList<>();
+            body.path("issueIdsOrKeys").forEach(key ->
+                    found.add(Map.of("id", issueId(key.asText()), "key", key.asText())));
+            return Reply.json(200, objectMapper.writeValueAsString(Map.of("issues", found)));
+        }
+        return Reply.error(404, "Unknown endpoint " + method + " " + path);
+    }
+
+    // keys are PROJECT-<id>, see issue creation above
+    private static String issueId(String key) {
+        return key.substring(key.lastIndexOf('-') + 1);
+    }
+}
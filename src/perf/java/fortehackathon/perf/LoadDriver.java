@@ -0,0 +1,287 @@
+package fortehackathon.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// closed-loop driver: every worker sends its next request as soon as the previous one returns, so the
+// percentiles are latencies under "concurrency" requests in flight, not under a fixed arrival rate
+public class LoadDriver {
+
+    private static final String DEFAULT_MIX =
+            "status=35,task-list=25,task-create=10,meeting-submit=10,meeting-status=20";
+    private static final int TRANSCRIPT_VARIANTS = 4;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final String baseUrl;
+    private final List<Long> memberIds = new ArrayList<>();
+    private final List<String> memberNames = new ArrayList<>();
+    private final List<String> transcripts = new ArrayList<>();
+    private final List<Long> meetingIds = Collections.synchronizedList(new ArrayList<>());
+    private String token;
+
+    LoadDriver(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        var driver = new LoadDriver(setting("url", "http://localhost:8080"));
+
+        driver.setUp(setting("jira-url", "http://127.0.0.1:18082"),
+                Integer.parseInt(setting("members", "8")),
+                Arrays.stream(setting("transcript-sizes", "3000,30000,150000").split(","))
+                        .map(String::trim)
+                        .mapToInt(Integer::parseInt)
+                        .toArray());
+
+        driver.run(Duration.parse(setting("warmup", "PT15S")),
+                Duration.parse(setting("duration", "PT1M")),
+                Integer.parseInt(setting("concurrency", "16")),
+                parseMix(setting("mix", DEFAULT_MIX)));
+    }
+
+    // a fresh PM, team and members per run, so results don't depend on what earlier runs left behind
+    void setUp(String jiraUrl, int members, int[] transcriptSizes) throws Exception {
+        long run = System.currentTimeMillis();
+
+        JsonNode auth = null;
+        for (int attempt = 1; auth == null; attempt++) {
+            var response = send("POST", "/api/auth/pm-login", Map.of(
+                    "jiraEmail", "perf-pm-" + run + "@forte.kz",
+                    "password", "perf",
+                    "jiraApiToken", "perf"));
+            // the Jira stub may inject a failure into the credential check
+            if (response.statusCode() / 100 == 2) {
+                auth = objectMapper.readTree(response.body());
+            } else if (attempt == 5) {
+                throw new IllegalStateException("PM login failed: " + response.statusCode() + " " + response.body());
+            }
+        }
+        token = auth.get("token").asText();
+
+        expectOk(send("POST", "/api/team/create", Map.of(
+                "name", "Perf " + run,
+                "jiraProjectKey", "PERF",
+                "jiraUrl", jiraUrl)));
+
+        for (int i = 0; i < members; i++) {
+            String username = "perf.dev" + i + "." + run;
+            JsonNode member = expectOk(send("POST", "/api/team/members", Map.of(
+                    "username", username,
+                    "email", username + "@forte.kz",
+                    "jiraUsername", username + "@forte.kz",
+                    "role", "BACKEND_DEVELOPER")));
+            memberIds.add(member.get("id").asLong());
+            memberNames.add(member.get("username").asText());
+        }
+
+        // generated up front so transcript building stays out of the measured latencies
+        Random random = new Random(run);
+        for (int size : transcriptSizes) {
+            for (int i = 0; i < TRANSCRIPT_VARIANTS; i++) {
+                transcripts.add(TranscriptGenerator.generate(size, memberNames, random));
+            }
+        }
+
+        System.out.printf("Set up team 'Perf %d' with %d members and %d transcripts%n",
+                run, members, transcripts.size());
+    }
+
+    void run(Duration warmup, Duration duration, int concurrency, Map<String, Integer> mix) throws Exception {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        System.out.printf("Running %s warmup + %s with %d workers, mix %s%n", warmup, duration, concurrency, mix);
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<Map<String, Recorder>>> results = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            long seed = i;
+            results.add(workers.submit(() -> work(new Random(seed), mix, measureFrom, end)));
+        }
+
+        Map<String, Recorder> merged = new TreeMap<>();
+        for (var result : results) {
+            result.get().forEach((operation, recorder) ->
+                    merged.computeIfAbsent(operation, o -> new Recorder()).merge(recorder));
+        }
+        workers.shutdown();
+
+        report(merged, duration);
+    }
+
+    private Map<String, Recorder> work(Random random, Map<String, Integer> mix, long measureFrom, long end) {
+        Map<String, Recorder> recorders = new HashMap<>();
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+
+        while (System.nanoTime() < end) {
+            String operation = pick(mix, random.nextInt(totalWeight));
+            long start = System.nanoTime();
+            Boolean ok;
+            try {
+                ok = execute(operation, random);
+            } catch (Exception e) {
+                ok = false;
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (ok != null && start >= measureFrom) {
+                recorders.computeIfAbsent(operation, o -> new Recorder()).record(elapsed, ok);
+            }
+        }
+        return recorders;
+    }
+
+    // null when the operation could not run yet, e.g. a status poll before any meeting was submitted
+    private Boolean execute(String operation, Random random) throws Exception {
+        return switch (operation) {
+            case "status" -> isOk(send("GET", "/api/status/overview", null));
+            case "task-list" -> isOk(send("GET", "/api/tasks?limit=50", null));
+            case "task-create" -> isOk(send("POST", "/api/tasks/create", Map.of(
+                    "summary", "Perf task " + random.nextInt(1_000_000),
+                    "description", "Created by the load driver",
+                    "priority", "MEDIUM",
+                    "assigneeId", memberIds.get(random.nextInt(memberIds.size())),
+                    "deadline", LocalDateTime.now().plusDays(1 + random.nextInt(14)).withNano(0).toString())));
+            case "meeting-submit" -> {
+                var response = send("POST", "/api/meetings/analyze/transcript", Map.of(
+                        "transcript", transcripts.get(random.nextInt(transcripts.size())),
+                        "meetingDate", LocalDateTime.now().withNano(0).toString()));
+                if (isOk(response)) {
+                    meetingIds.add(objectMapper.readTree(response.body()).get("meetingId").asLong());
+                }
+                yield isOk(response);
+            }
+            case "meeting-status" -> {
+                Long meetingId;
+                synchronized (meetingIds) {
+                    meetingId = meetingIds.isEmpty() ? null : meetingIds.get(random.nextInt(meetingIds.size()));
+                }
+                yield meetingId == null ? null : isOk(send("GET", "/api/meetings/" + meetingId + "/status", null));
+            }
+            default -> throw new IllegalArgumentException("Unknown operation " + operation);
+        };
+    }
+
+    private void report(Map<String, Recorder> recorders, Duration duration) {
+        double seconds = duration.toNanos() / 1e9;
+        String format = "%-16s %9s %8s %9s %9s %9s %9s %9s%n";
+
+        System.out.println();
+        System.out.printf(format, "operation", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+
+        Recorder total = new Recorder();
+        recorders.forEach((operation, recorder) -> {
+            printRow(format, operation, recorder, seconds);
+            total.merge(recorder);
+        });
+        printRow(format, "total", total, seconds);
+    }
+
+    private void printRow(String format, String name, Recorder recorder, double seconds) {
+        recorder.sort();
+        System.out.printf(format, name, recorder.size, recorder.errors,
+                String.format("%.1f", recorder.size / seconds),
+                millis(recorder.percentile(0.50)), millis(recorder.percentile(0.95)),
+                millis(recorder.percentile(0.99)), millis(recorder.percentile(1.0)));
+    }
+
+    private HttpResponse<String> send(String method, String path, Object body) throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(60));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private JsonNode expectOk(HttpResponse<String> response) throws IOException {
+        if (!isOk(response)) {
+            throw new IllegalStateException(response.request().uri() + " returned "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private static boolean isOk(HttpResponse<String> response) {
+        return response.statusCode() / 100 == 2;
+    }
+
+    private static String pick(Map<String, Integer> mix, int roll) {
+        for (var entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty mix");
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split("=");
+            weights.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    private static String setting(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / 1e6);
+    }
+
+    private static class Recorder {
+        private long[] samples = new long[1024];
+        private int size;
+        private int errors;
+
+        void record(long nanos, boolean ok) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void merge(Recorder other) {
+            for (int i = 0; i < other.size; i++) {
+                record(other.samples[i], true);
+            }
+            errors += other.errors;
+        }
+
+        void sort() {
+            Arrays.sort(samples, 0, size);
+        }
+
+        long percentile(double p) {
+            if (size == 0) {
+                return 0;
+            }
+            return samples[Math.max(0, (int) Math.ceil(p * size) - 1)];
+        }
+    }
+}
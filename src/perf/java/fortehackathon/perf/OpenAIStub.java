@@ -0,0 +1,115 @@
+package fortehackathon.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// answers /v1/chat/completions with tasks shaped like RequestPrompt asks for, assigned to the prompt's members
+class OpenAIStub extends StubServer {
+
+    private static final Pattern MEMBERS = Pattern.compile("Available team members: (.*)");
+    private static final int CHARS_PER_TASK = 2000;
+    private static final int MAX_TASKS = 25;
+    private static final String[] SUMMARIES = {
+            "Обновить SLA для платёжного шлюза",
+            "Fix flaky settlement reconciliation test",
+            "Подготовить демо для команды рисков",
+            "Migrate card tokenization to the new vault",
+            "Разобрать алерты по задержкам в Kafka",
+            "Review the limits service rollout plan"
+    };
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "CRITICAL"};
+
+    private final AtomicLong ids = new AtomicLong();
+    private final long outputTokenLatencyMicros;
+
+    OpenAIStub(PerfStubProperties.Stub settings) throws IOException {
+        super("OpenAI", settings);
+        this.outputTokenLatencyMicros = settings.getOutputTokenLatency().toNanos() / 1000;
+    }
+
+    @Override
+    protected Reply handle(String method, String path, JsonNode body) throws IOException {
+        if (!"POST".equals(method) || !path.endsWith("/chat/completions")) {
+            return Reply.error(404, "Unknown endpoint " + path);
+        }
+
+        JsonNode messages = body.path("messages");
+        String prompt = messages.size() > 0 ? messages.get(messages.size() - 1).path("content").asText() : "";
+        List<String> members = members(prompt);
+
+        String content;
+        if (prompt.contains("JSON array")) {
+            int count = Math.max(1, Math.min(prompt.length() / CHARS_PER_TASK, MAX_TASKS));
+            ArrayNode tasks = objectMapper.createArrayNode();
+            for (int i = 0; i < count; i++) {
+                tasks.add(task(members));
+            }
+            content = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(tasks);
+        } else {
+            content = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(task(members));
+        }
+
+        int promptTokens = prompt.length() / 4;
+        int completionTokens = content.length() / 4;
+
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("id", "chatcmpl-perf-" + ids.incrementAndGet());
+        response.put("object", "chat.completion");
+        response.put("created", System.currentTimeMillis() / 1000);
+        response.put("model", body.path("model").asText("gpt-4.1-mini"));
+        ObjectNode choice = response.putArray("choices").addObject();
+        choice.put("index", 0);
+        choice.putObject("message").put("role", "assistant").put("content", content);
+        choice.put("finish_reason", "stop");
+        response.putObject("usage")
+                .put("prompt_tokens", promptTokens)
+                .put("completion_tokens", completionTokens)
+                .put("total_tokens", promptTokens + completionTokens);
+
+        return new Reply(200, objectMapper.writeValueAsString(response),
+                completionTokens * outputTokenLatencyMicros / 1000);
+    }
+
+    private ObjectNode task(List<String> members) {
+        var random = ThreadLocalRandom.current();
+        String summary = SUMMARIES[random.nextInt(SUMMARIES.length)];
+
+        ObjectNode task = objectMapper.createObjectNode();
+        task.put("summary", summary);
+        task.put("description", "Обсудили на встрече: " + summary.toLowerCase()
+                + ". Согласовать с владельцем сервиса и отписаться в канал команды.");
+        if (members.isEmpty() || random.nextInt(5) == 0) {
+            task.putNull("assignee");
+        } else {
+            task.put("assignee", members.get(random.nextInt(members.size())));
+        }
+        task.put("priority", PRIORITIES[random.nextInt(PRIORITIES.length)]);
+        if (random.nextInt(3) == 0) {
+            task.putNull("deadline");
+        } else {
+            task.put("deadline", LocalDate.now().plusDays(1 + random.nextInt(14)).atTime(18, 0)
+                    .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
+        return task;
+    }
+
+    private List<String> members(String prompt) {
+        Matcher matcher = MEMBERS.matcher(prompt);
+        if (!matcher.find() || matcher.group(1).isBlank()) {
+            return List.of();
+        }
+        return new ArrayList<>(Arrays.asList(matcher.group(1).trim().split(",\\s*")));
+    }
+}
@@ -0,0 +1,25 @@
+package fortehackathon.perf;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.io.IOException;
+
+// openai.url and jira.url point at these ports in application-perf.yaml
+@Configuration
+@Profile("perf")
+@EnableConfigurationProperties(PerfStubProperties.class)
+public class PerfStubConfiguration {
+
+    @Bean(destroyMethod = "close")
+    OpenAIStub openAIStub(PerfStubProperties properties) throws IOException {
+        return new OpenAIStub(properties.getOpenai());
+    }
+
+    @Bean(destroyMethod = "close")
+    JiraStub jiraStub(PerfStubProperties properties) throws IOException {
+        return new JiraStub(properties.getJira());
+    }
+}
@@ -0,0 +1,26 @@
+package fortehackathon.perf;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("perf.stubs")
+public class PerfStubProperties {
+
+    private Stub openai = new Stub();
+    private Stub jira = new Stub();
+
+    // latency is log-normal, fitted to the median and the 99th percentile
+    @Data
+    public static class Stub {
+        private int port;
+        private Duration medianLatency = Duration.ofMillis(100);
+        private Duration p99Latency = Duration.ofMillis(500);
+        // added per generated completion token, models stream output at a roughly fixed rate
+        private Duration outputTokenLatency = Duration.ZERO;
+        private double errorRate;
+        private double throttleRate;
+    }
+}
@@ -0,0 +1,118 @@
+package fortehackathon.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+// HTTP stub with injected latency, 5xx errors and 429 throttling; subclasses only produce the happy-path body
+@Slf4j
+abstract class StubServer implements AutoCloseable {
+
+    private static final double Z_99 = 2.326348;
+    private static final long MAX_LATENCY_MS = 60_000;
+
+    protected final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String name;
+    private final PerfStubProperties.Stub settings;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final double sigma;
+
+    StubServer(String name, PerfStubProperties.Stub settings) throws IOException {
+        this.name = name;
+        this.settings = settings;
+        this.sigma = !settings.getMedianLatency().isZero()
+                && settings.getP99Latency().compareTo(settings.getMedianLatency()) > 0
+                ? Math.log((double) settings.getP99Latency().toMillis() / settings.getMedianLatency().toMillis()) / Z_99
+                : 0;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", settings.getPort()), 1024);
+        server.createContext("/", this::dispatch);
+        server.setExecutor(executor);
+        server.start();
+        log.info("{} stub listening on {} (median {}, p99 {}, errors {}, throttled {})", name, url(),
+                settings.getMedianLatency(), settings.getP99Latency(), settings.getErrorRate(), settings.getThrottleRate());
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    protected abstract Reply handle(String method, String path, JsonNode body) throws IOException;
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void dispatch(HttpExchange exchange) {
+        try (exchange) {
+            byte[] raw = exchange.getRequestBody().readAllBytes();
+            double roll = ThreadLocalRandom.current().nextDouble();
+
+            if (roll < settings.getThrottleRate()) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                send(exchange, Reply.error(429, "Rate limit reached (" + name + " stub)"));
+                return;
+            }
+
+            Reply reply = roll < settings.getThrottleRate() + settings.getErrorRate()
+                    ? Reply.error(500, "Injected failure (" + name + " stub)")
+                    : handle(exchange.getRequestMethod(), exchange.getRequestURI().getPath(), parse(raw));
+
+            Thread.sleep(Math.min(sampleLatencyMs() + reply.extraLatencyMs(), MAX_LATENCY_MS));
+            send(exchange, reply);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("{} stub failed to answer {}: {}", name, exchange.getRequestURI(), e.getMessage());
+        }
+    }
+
+    private long sampleLatencyMs() {
+        double median = settings.getMedianLatency().toMillis();
+        return (long) (median * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    private JsonNode parse(byte[] raw) throws IOException {
+        return raw.length > 0 && raw[0] == '{' ? objectMapper.readTree(raw) : NullNode.getInstance();
+    }
+
+    private void send(HttpExchange exchange, Reply reply) throws IOException {
+        if (reply.body() == null) {
+            exchange.sendResponseHeaders(reply.status(), -1);
+            return;
+        }
+        byte[] bytes = reply.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(reply.status(), bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    record Reply(int status, String body, long extraLatencyMs) {
+
+        static Reply json(int status, String body) {
+            return new Reply(status, body, 0);
+        }
+
+        static Reply empty(int status) {
+            return new Reply(status, null, 0);
+        }
+
+        static Reply error(int status, String message) {
+            return json(status, "{\"error\":{\"message\":\"" + message + "\"}}");
+        }
+    }
+}
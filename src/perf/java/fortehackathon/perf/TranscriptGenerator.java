@@ -0,0 +1,70 @@
+package fortehackathon.perf;
+
+import java.util.List;
+import java.util.Random;
+
+// meeting transcripts in the "[hh:mm:ss] speaker: text" shape, with fillers, repeats and action items
+public final class TranscriptGenerator {
+
+    private static final String[] CHATTER = {
+            "давайте пройдёмся по статусу платёжного шлюза",
+            "I think the limits check should move out of the gateway first",
+            "по ночам опять задержки в Kafka, алерты сыпались до утра",
+            "the settlement reconciliation test failed twice this week",
+            "риск-команда просит демо до конца спринта",
+            "we still need access to the new vault for tokenization",
+            "можно я быстро покажу дашборд по ошибкам",
+            "okay, that makes sense, let's not block on it"
+    };
+    private static final String[] FILLERS = {"ну", "um", "uh", "э", "так", "okay so"};
+    private static final String[] WORK = {
+            "миграцию токенизации карт", "the SLA update for the gateway", "регресс по settlement",
+            "the Kafka lag alerts", "демо для команды рисков", "the limits service rollout plan"
+    };
+    private static final String[] DEADLINES = {"до пятницы", "by Wednesday", "до конца спринта", "by tomorrow"};
+    private static final String[] ACTIONS = {
+            "%s, возьмёшь %s %s?",
+            "%s will take %s %s",
+            "so action item: %s owns %s, %s",
+            "%s, please finish %s %s"
+    };
+    private static final int ACTION_EVERY = 8;
+
+    private TranscriptGenerator() {
+    }
+
+    public static String generate(int targetChars, List<String> speakers, Random random) {
+        StringBuilder transcript = new StringBuilder(targetChars + 200);
+        String previous = null;
+        int second = 0;
+
+        while (transcript.length() < targetChars) {
+            second += 2 + random.nextInt(25);
+            String speaker = speakers.get(random.nextInt(speakers.size()));
+
+            String line;
+            if (previous != null && random.nextInt(20) == 0) {
+                // speech-to-text often emits the same utterance twice
+                line = previous;
+            } else if (random.nextInt(ACTION_EVERY) == 0) {
+                line = String.format(ACTIONS[random.nextInt(ACTIONS.length)],
+                        speakers.get(random.nextInt(speakers.size())),
+                        WORK[random.nextInt(WORK.length)],
+                        DEADLINES[random.nextInt(DEADLINES.length)]);
+            } else {
+                line = CHATTER[random.nextInt(CHATTER.length)];
+                if (random.nextInt(3) == 0) {
+                    line = FILLERS[random.nextInt(FILLERS.length)] + ", " + line;
+                }
+            }
+
+            transcript.append(String.format("[%02d:%02d:%02d] ", second / 3600, second / 60 % 60, second % 60))
+                    .append(speaker)
+                    .append(": ")
+                    .append(line)
+                    .append('\n');
+            previous = line;
+        }
+        return transcript.toString();
+    }
+}
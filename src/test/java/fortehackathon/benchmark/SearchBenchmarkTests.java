@@ -0,0 +1,110 @@
+package fortehackathon.benchmark;
+
+import fortehackathon.repository.TaskRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SearchBenchmarkTests {
+
+    private static final int TASK_COUNT = Integer.getInteger("benchmark.search.tasks", 1_000_000);
+    private static final int TEAM_COUNT = 50;
+    private static final int ITERATIONS = 200;
+
+    private static final List<String> QUERIES = List.of(
+            "payment", "login timeout", "\"release notes\"", "migration -rollback", "dashboard OR report"
+    );
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final List<Long> teamIds = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i < TEAM_COUNT; i++) {
+            teamIds.add(jdbcTemplate.queryForObject(
+                    "insert into teams(name, created_at) values (?, now()) returning id",
+                    Long.class, "search-benchmark-" + i));
+        }
+
+        long started = System.nanoTime();
+        jdbcTemplate.update("""
+                insert into tasks(jira_key, summary, description, team_id, status, priority, created_at, updated_at)
+                select 'SB-' || g || '-' || md5(random()::text),
+                       w[1 + g % 20] || ' ' || w[1 + (g / 20) % 20] || ' task ' || g,
+                       'Investigate ' || w[1 + (g / 7) % 20] || ' and ' || w[1 + (g / 13) % 20] ||
+                       ' before the release notes are published',
+                       t.ids[1 + g % cardinality(t.ids)],
+                       (array['TODO','IN_PROGRESS','IN_REVIEW','DONE','BLOCKED'])[1 + g % 5],
+                       (array['LOW','MEDIUM','HIGH','CRITICAL'])[1 + g % 4],
+                       now() - (g || ' seconds')::interval,
+                       now()
+                from generate_series(1, ?) g,
+                     (select array_agg(id order by id) as ids
+                      from teams where name like 'search-benchmark-%') t,
+                     (select array['payment','login','timeout','migration','rollback','dashboard','report',
+                                   'invoice','export','import','cache','search','billing','profile','webhook',
+                                   'notification','telegram','jira','onboarding','audit'] as w) words
+                """, TASK_COUNT);
+        jdbcTemplate.execute("analyze tasks");
+
+        System.out.printf("Seeded %d tasks across %d teams in %d ms%n",
+                TASK_COUNT, TEAM_COUNT, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @AfterAll
+    void cleanup() {
+        String ids = joinIds();
+        jdbcTemplate.update("delete from tasks where team_id in (" + ids + ")");
+        jdbcTemplate.update("delete from teams where id in (" + ids + ")");
+    }
+
+    @Test
+    void rankedTeamScopedSearch() {
+        for (String query : QUERIES) {
+            long[] timings = new long[ITERATIONS];
+            int hits = 0;
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                Long teamId = teamIds.get(i % teamIds.size());
+                long started = System.nanoTime();
+                hits += taskRepository.search(teamId, query, 20, 0).size();
+                timings[i] = System.nanoTime() - started;
+            }
+
+            Arrays.sort(timings);
+            System.out.printf("query=%-22s p50=%6.2f ms p95=%6.2f ms p99=%6.2f ms avgHits=%.1f%n",
+                    query, millis(timings, 0.50), millis(timings, 0.95), millis(timings, 0.99),
+                    hits / (double) ITERATIONS);
+
+            assertTrue(hits > 0, "no hits for " + query);
+        }
+    }
+
+    private String joinIds() {
+        return String.join(",", teamIds.stream().map(String::valueOf).toList());
+    }
+
+    private double millis(long[] sorted, double percentile) {
+        int idx = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[idx] / 1_000_000.0;
+    }
+}
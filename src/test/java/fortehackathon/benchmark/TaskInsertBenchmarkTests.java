@@ -0,0 +1,120 @@
+package fortehackathon.benchmark;
+
+import fortehackathon.entity.Priority;
+import fortehackathon.entity.Task;
+import fortehackathon.entity.TaskStatus;
+import fortehackathon.entity.Team;
+import fortehackathon.repository.TaskRepository;
+import fortehackathon.repository.TeamRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Compares one round trip per row (what IDENTITY forces on Hibernate) with pooled sequence ids + JDBC batching.
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskInsertBenchmarkTests {
+
+    private static final int TASKS_PER_MEETING = 40;
+    private static final int MEETINGS = Integer.getInteger("benchmark.insert.meetings", 250);
+    private static final int WARMUP_MEETINGS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    private Team team;
+
+    @BeforeAll
+    void createTeam() {
+        team = teamRepository.save(Team.builder()
+                .name("insert-benchmark")
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @AfterAll
+    void cleanup() {
+        jdbcTemplate.update("delete from tasks where team_id = ?", team.getId());
+        jdbcTemplate.update("delete from teams where id = ?", team.getId());
+    }
+
+    @Test
+    void identityStyleVersusPooledBatchedInserts() {
+        runRowByRow(WARMUP_MEETINGS);
+        runPooledBatched(WARMUP_MEETINGS);
+
+        long rowByRow = runRowByRow(MEETINGS);
+        long pooled = runPooledBatched(MEETINGS);
+
+        int rows = MEETINGS * TASKS_PER_MEETING;
+        System.out.printf("row-by-row insert .. returning id: %8.0f rows/s (%d ms)%n", rate(rows, rowByRow), rowByRow / 1_000_000);
+        System.out.printf("pooled sequence + jdbc batching:  %8.0f rows/s (%d ms)%n", rate(rows, pooled), pooled / 1_000_000);
+        System.out.printf("speedup: %.2fx%n", rowByRow / (double) pooled);
+    }
+
+    private long runRowByRow(int meetings) {
+        long started = System.nanoTime();
+        for (int m = 0; m < meetings; m++) {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < TASKS_PER_MEETING; i++) {
+                    jdbcTemplate.queryForObject("""
+                            insert into tasks(jira_key, summary, team_id, status, priority, created_at, updated_at)
+                            values (?, ?, ?, ?, ?, ?, ?) returning id
+                            """, Long.class,
+                            "IB-" + UUID.randomUUID(), "row by row", team.getId(),
+                            TaskStatus.TODO.name(), Priority.MEDIUM.name(),
+                            Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(LocalDateTime.now()));
+                }
+            });
+        }
+        return System.nanoTime() - started;
+    }
+
+    private long runPooledBatched(int meetings) {
+        long started = System.nanoTime();
+        for (int m = 0; m < meetings; m++) {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Task> tasks = new ArrayList<>(TASKS_PER_MEETING);
+                for (int i = 0; i < TASKS_PER_MEETING; i++) {
+                    tasks.add(Task.builder()
+                            .jiraKey("IB-" + UUID.randomUUID())
+                            .summary("pooled batched")
+                            .team(team)
+                            .status(TaskStatus.TODO)
+                            .priority(Priority.MEDIUM)
+                            .createdAt(LocalDateTime.now())
+                            .updatedAt(LocalDateTime.now())
+                            .build());
+                }
+                taskRepository.saveAll(tasks);
+            });
+        }
+        return System.nanoTime() - started;
+    }
+
+    private double rate(int rows, long nanos) {
+        return rows / (nanos / 1_000_000_000.0);
+    }
+}
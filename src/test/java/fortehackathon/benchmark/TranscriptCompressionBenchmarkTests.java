@@ -0,0 +1,62 @@
+package fortehackathon.benchmark;
+
+import fortehackathon.util.TokenCounter;
+import fortehackathon.util.TranscriptCompressor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// compression ratio over the sample corpus in src/test/resources/transcripts, no database needed
+@Tag("benchmark")
+class TranscriptCompressionBenchmarkTests {
+
+    private static final int ITERATIONS = 1_000;
+
+    private final TokenCounter tokenCounter = new TokenCounter();
+
+    @Test
+    void compressionRatio() throws IOException, URISyntaxException {
+        long totalBefore = 0;
+        long totalAfter = 0;
+
+        for (Path file : corpus()) {
+            String transcript = Files.readString(file, StandardCharsets.UTF_8);
+
+            long started = System.nanoTime();
+            String compressed = null;
+            for (int i = 0; i < ITERATIONS; i++) {
+                compressed = TranscriptCompressor.compress(transcript);
+            }
+            double micros = (System.nanoTime() - started) / 1_000.0 / ITERATIONS;
+
+            int before = tokenCounter.count(transcript);
+            int after = tokenCounter.count(compressed);
+            totalBefore += before;
+            totalAfter += after;
+
+            System.out.printf("%-22s tokens %5d -> %5d ratio=%.2f compress=%.1f us%n",
+                    file.getFileName(), before, after, after / (double) before, micros);
+
+            assertTrue(after < before, "no savings on " + file.getFileName());
+        }
+
+        System.out.printf("%-22s tokens %5d -> %5d ratio=%.2f%n",
+                "total", totalBefore, totalAfter, totalAfter / (double) totalBefore);
+    }
+
+    private List<Path> corpus() throws IOException, URISyntaxException {
+        Path dir = Path.of(getClass().getResource("/transcripts").toURI());
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package fortehackathon.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// the security rule keys on the port, so both servers have to actually listen
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false)
+class ManagementPortTests {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int serverPort;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    // 0 would match the random server port and turn the rule off, pick a free one up front
+    @DynamicPropertySource
+    static void managementPort(DynamicPropertyRegistry registry) {
+        try (var socket = new ServerSocket(0)) {
+            int port = socket.getLocalPort();
+            registry.add("management.server.port", () -> port);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    void managementPortServesActuatorWithoutToken() throws Exception {
+        assertEquals(200, get(managementPort, "/actuator/prometheus").statusCode());
+        assertEquals(200, get(managementPort, "/actuator/metrics").statusCode());
+        assertEquals(200, get(managementPort, "/actuator/health").statusCode());
+    }
+
+    @Test
+    void publicPortRequiresTokenForActuator() throws Exception {
+        assertNotEquals(200, get(serverPort, "/actuator/prometheus").statusCode());
+        assertNotEquals(200, get(serverPort, "/actuator/metrics").statusCode());
+    }
+
+    private HttpResponse<String> get(int port, String path) throws Exception {
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,89 @@
+package fortehackathon.configuration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+// needs two independent instances, e.g. ./gradlew replicaTest -Dreplica.datasource.url=jdbc:postgresql://localhost:6002/...
+@Tag("replica")
+@SpringBootTest
+class ReadWriteRoutingTests {
+
+    private static final String INSTANCE_ID = "select system_identifier::text from pg_control_system()";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String primaryId;
+    private String replicaId;
+
+    @BeforeEach
+    void identifyInstances() {
+        primaryId = new JdbcTemplate(primaryDataSource).queryForObject(INSTANCE_ID, String.class);
+        replicaId = new JdbcTemplate(replicaDataSource).queryForObject(INSTANCE_ID, String.class);
+        assertNotEquals(primaryId, replicaId, "primary and replica must be different instances");
+    }
+
+    @AfterEach
+    void clearPrincipal() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        assertEquals(replicaId, instanceIn(true));
+    }
+
+    @Test
+    void readWriteTransactionsGoToPrimary() {
+        assertEquals(primaryId, instanceIn(false));
+    }
+
+    @Test
+    void readsStayOnPrimaryAfterOwnWrite() {
+        authenticate("writer");
+        instanceIn(false);
+
+        assertEquals(primaryId, instanceIn(true));
+
+        authenticate("someone-else");
+        assertEquals(replicaId, instanceIn(true));
+    }
+
+    private String instanceIn(boolean readOnly) {
+        var template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> new JdbcTemplate(dataSource).queryForObject(INSTANCE_ID, String.class));
+    }
+
+    private void authenticate(String username) {
+        var authentication = new TestingAuthenticationToken(username, null, "ROLE_TEST");
+        authentication.setAuthenticated(true);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
@@ -0,0 +1,121 @@
+package fortehackathon.configuration;
+
+import fortehackathon.repository.TaskRepository;
+import fortehackathon.repository.TeamRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// sampled at 0.1 by default, the assertions need every trace exported
+@SpringBootTest(properties = "management.tracing.sampling.probability=1.0")
+@AutoConfigureObservability(metrics = false)
+class TracingTests {
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    @Qualifier("meetingExecutor")
+    private ThreadPoolTaskExecutor meetingExecutor;
+
+    @BeforeEach
+    void reset() {
+        spanExporter.reset();
+    }
+
+    @Test
+    void repositoryCallsAreChildSpans() {
+        String traceId = Observation.createNotStarted("test", observationRegistry).observe(() -> {
+            taskRepository.count();
+            return tracer.currentSpan().context().traceId();
+        });
+
+        // Micrometer Tracing lower-hyphens the contextual name for the span name
+        SpanData span = finishedSpans().stream()
+                .filter(s -> s.getName().equals("task-repository.count"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no span for task-repository.count"));
+
+        assertEquals(traceId, span.getTraceId());
+        assertEquals("TaskRepository", span.getAttributes().asMap().entrySet().stream()
+                .filter(e -> e.getKey().getKey().equals("repository"))
+                .map(e -> e.getValue().toString())
+                .findFirst()
+                .orElse(null));
+    }
+
+    @Test
+    void otherRepositoriesAreNotObserved() {
+        Observation.createNotStarted("test", observationRegistry).observe(() -> teamRepository.count());
+
+        assertTrue(finishedSpans().stream().noneMatch(s -> s.getName().startsWith("team-repository.")));
+    }
+
+    @Test
+    void traceContextFollowsTheAsyncHandOff() throws Exception {
+        String[] seen = new String[2];
+
+        String traceId = Observation.createNotStarted("test", observationRegistry).observe(() -> {
+            try {
+                meetingExecutor.submit(() -> {
+                    seen[0] = tracer.currentSpan() != null ? tracer.currentSpan().context().traceId() : null;
+                    seen[1] = MDC.get("traceId");
+                }).get(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            return tracer.currentSpan().context().traceId();
+        });
+
+        assertEquals(traceId, seen[0]);
+        assertEquals(traceId, seen[1]);
+        assertNull(MDC.get("traceId"), "scope must be closed on the calling thread");
+    }
+
+    private List<SpanData> finishedSpans() {
+        assertTrue(tracerProvider.forceFlush().join(5, TimeUnit.SECONDS).isSuccess());
+        return spanExporter.getFinishedSpanItems();
+    }
+
+    @TestConfiguration
+    static class InMemoryExporterConfiguration {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+}
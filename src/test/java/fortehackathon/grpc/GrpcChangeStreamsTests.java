@@ -0,0 +1,132 @@
+package fortehackathon.grpc;
+
+import fortehackathon.dto.TaskResponse;
+import fortehackathon.entity.Team;
+import fortehackathon.entity.User;
+import fortehackathon.event.TaskChangedEvent;
+import fortehackathon.grpc.proto.TaskChange;
+import fortehackathon.service.MeetingService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GrpcChangeStreamsTests {
+
+    private static final long TEAM_ID = 7L;
+
+    private GrpcChangeStreams changeStreams;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        changeStreams = new GrpcChangeStreams(Mockito.mock(MeetingService.class));
+        ReflectionTestUtils.setField(changeStreams, "maxQueuedMessages", 2);
+        user = User.builder().id(1L).team(Team.builder().id(TEAM_ID).build()).build();
+    }
+
+    @Test
+    void holdsMessagesUntilTheStreamIsReady() {
+        var observer = new FakeCallObserver<TaskChange>();
+        observer.ready = false;
+        changeStreams.watchTasks(user, observer);
+
+        changeStreams.onTaskChanged(change(1L));
+        changeStreams.onTaskChanged(change(2L));
+        assertTrue(observer.sent.isEmpty());
+
+        observer.ready = true;
+        observer.onReady.run();
+
+        assertEquals(List.of(1L, 2L), observer.sent.stream().map(c -> c.getTask().getId()).toList());
+        assertNull(observer.error);
+    }
+
+    @Test
+    void closesSlowSubscriberWithResourceExhausted() {
+        var observer = new FakeCallObserver<TaskChange>();
+        observer.ready = false;
+        changeStreams.watchTasks(user, observer);
+
+        changeStreams.onTaskChanged(change(1L));
+        changeStreams.onTaskChanged(change(2L));
+        changeStreams.onTaskChanged(change(3L));
+
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, Status.fromThrowable(observer.error).getCode());
+
+        // unregistered, later changes are not queued for it any more
+        observer.ready = true;
+        changeStreams.onTaskChanged(change(4L));
+        observer.onReady.run();
+        assertTrue(observer.sent.isEmpty());
+    }
+
+    private TaskChangedEvent change(Long taskId) {
+        return new TaskChangedEvent(TEAM_ID, TaskChangedEvent.Type.UPDATED,
+                TaskResponse.builder().id(taskId).build());
+    }
+
+    private static class FakeCallObserver<T> extends ServerCallStreamObserver<T> {
+        private final List<T> sent = new ArrayList<>();
+        private boolean ready = true;
+        private Runnable onReady;
+        private Throwable error;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setOnReadyHandler(Runnable onReadyHandler) {
+            onReady = onReadyHandler;
+        }
+
+        @Override
+        public void onNext(T value) {
+            assertTrue(ready, "onNext called while the stream is not ready");
+            sent.add(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public void setOnCancelHandler(Runnable onCancelHandler) {
+        }
+
+        @Override
+        public void setCompression(String compression) {
+        }
+
+        @Override
+        public void disableAutoInboundFlowControl() {
+        }
+
+        @Override
+        public void request(int count) {
+        }
+
+        @Override
+        public void setMessageCompression(boolean enable) {
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package fortehackathon.queryplan;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+class CapturedQuery {
+    private final String sql;
+    private final List<Object> parameters;
+
+    String toExecutableSql() {
+        var sb = new StringBuilder();
+        int param = 0;
+        boolean inLiteral = false;
+
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                sb.append(literal(parameters.get(param++)));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String literal(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        return "'" + value.toString().replace("'", "''") + "'";
+    }
+}
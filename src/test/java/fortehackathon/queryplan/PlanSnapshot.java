@@ -0,0 +1,42 @@
+package fortehackathon.queryplan;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+class PlanSnapshot {
+
+    private List<String> nodes;
+    private long sharedBuffers;
+    private String sql;
+
+    static PlanSnapshot fromExplain(JsonNode explain, String sql) {
+        JsonNode plan = explain.get(0).get("Plan");
+        List<String> nodes = new ArrayList<>();
+        collect(plan, nodes);
+
+        long buffers = plan.path("Shared Hit Blocks").asLong() + plan.path("Shared Read Blocks").asLong();
+        return new PlanSnapshot(nodes, buffers, sql);
+    }
+
+    private static void collect(JsonNode node, List<String> nodes) {
+        var label = new StringBuilder(node.get("Node Type").asText());
+        if (node.has("Index Name")) {
+            label.append(" using ").append(node.get("Index Name").asText());
+        } else if (node.has("Relation Name")) {
+            label.append(" on ").append(node.get("Relation Name").asText());
+        }
+        nodes.add(label.toString());
+
+        for (JsonNode child : node.path("Plans")) {
+            collect(child, nodes);
+        }
+    }
+}
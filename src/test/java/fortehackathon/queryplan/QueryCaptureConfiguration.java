@@ -0,0 +1,61 @@
+package fortehackathon.queryplan;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@TestConfiguration
+class QueryCaptureConfiguration {
+
+    static final List<CapturedQuery> CAPTURED = new CopyOnWriteArrayList<>();
+
+    @Bean
+    static BeanPostProcessor capturingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("query-plan-capture")
+                            .listener(new CapturingListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static class CapturingListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                List<List<ParameterSetOperation>> batches = queryInfo.getParametersList();
+                List<ParameterSetOperation> operations = batches.isEmpty() ? List.of() : batches.get(0);
+
+                List<Object> parameters = new ArrayList<>();
+                operations.stream()
+                        .sorted(Comparator.comparingInt(op -> (Integer) op.getArgs()[0]))
+                        .forEach(op -> parameters.add(
+                                "setNull".equals(op.getMethod().getName()) ? null : op.getArgs()[1]));
+
+                CAPTURED.add(new CapturedQuery(queryInfo.getQuery(), parameters));
+            }
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package fortehackathon.queryplan;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import fortehackathon.entity.Meeting;
+import fortehackathon.entity.ProcessingStatus;
+import fortehackathon.entity.Task;
+import fortehackathon.entity.TaskStatus;
+import fortehackathon.entity.Team;
+import fortehackathon.repository.MeetingRepository;
+import fortehackathon.repository.TaskRepository;
+import fortehackathon.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+@Tag("query-plan")
+@SpringBootTest
+@Import(QueryCaptureConfiguration.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTests {
+
+    private static final Path BASELINE = Path.of("src/test/resources/query-plans/baseline.json");
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("queryplan.update-baseline");
+    private static final double BUFFER_TOLERANCE = Double.parseDouble(System.getProperty("queryplan.buffer-tolerance", "0.25"));
+    private static final long BUFFER_SLACK = 16;
+
+    private static final int TEAMS = 20;
+    private static final int USERS_PER_TEAM = 50;
+    private static final int MEETINGS_PER_TEAM = 200;
+    private static final int TASKS = Integer.getInteger("queryplan.tasks", 200_000);
+    private static final String PREFIX = "qp-";
+    private static final List<ProcessingStatus> HISTORY_STATUSES = List.of(ProcessingStatus.values());
+
+    // plans and buffer counts depend on the server version and on what else is in the tables, so the baseline
+    // is recorded and checked against a fresh postgres:15, the version docker-compose runs: a container, or
+    // an empty database of that version given as -Dqueryplan.datasource.url where Docker is not available
+    private static final String DATASOURCE_URL = System.getProperty("queryplan.datasource.url");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        // DataSourceConfiguration builds its pools from DataSourceProperties, so @ServiceConnection would not reach them
+        if (DATASOURCE_URL != null) {
+            registry.add("spring.datasource.url", () -> DATASOURCE_URL);
+            registry.add("spring.datasource.username", () -> System.getProperty("queryplan.datasource.username", "postgres"));
+            registry.add("spring.datasource.password", () -> System.getProperty("queryplan.datasource.password", ""));
+            return;
+        }
+
+        // stopped by the Testcontainers reaper when the test JVM exits
+        var postgres = new PostgreSQLContainer<>("postgres:15");
+        postgres.start();
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    private final Map<String, PlanSnapshot> actual = new TreeMap<>();
+    private Map<String, PlanSnapshot> baseline;
+
+    private Team team;
+    private Meeting meeting;
+    private Task task;
+    private String username;
+    private long telegramId;
+
+    @BeforeAll
+    void seed() throws IOException {
+        baseline = Files.exists(BASELINE)
+                ? objectMapper.readValue(BASELINE.toFile(), new TypeReference<LinkedHashMap<String, PlanSnapshot>>() {})
+                : new LinkedHashMap<>();
+        if (baseline.isEmpty() && !UPDATE_BASELINE) {
+            fail("No query plan baseline in " + BASELINE
+                    + "; record it with ./gradlew queryPlanTest -Dqueryplan.update-baseline=true");
+        }
+
+        jdbcTemplate.update("""
+                insert into teams(name, created_at)
+                select 'qp-team-' || g, now() from generate_series(1, ?) g
+                """, TEAMS);
+        jdbcTemplate.update("""
+                insert into users(username, password, telegram_id, role, team_id, created_at)
+                select 'qp-user-' || g, 'x', 900000000000 + g, 'BACKEND_DEVELOPER', t.ids[1 + g % cardinality(t.ids)], now()
+                from generate_series(1, ?) g,
+                     (select array_agg(id order by id) as ids from teams where name like 'qp-team-%') t
+                """, TEAMS * USERS_PER_TEAM);
+        jdbcTemplate.update("""
+                insert into meetings(team_id, file_name, uploaded_at, processing_status)
+                select t.ids[1 + g % cardinality(t.ids)], 'qp-meeting-' || g, now() - (g || ' minutes')::interval,
+                       (array['UPLOADED','PROCESSING','COMPLETED','FAILED'])[1 + g % 4]
+                from generate_series(1, ?) g,
+                     (select array_agg(id order by id) as ids from teams where name like 'qp-team-%') t
+                """, TEAMS * MEETINGS_PER_TEAM);
+        jdbcTemplate.update("""
+                insert into tasks(jira_key, summary, description, assignee_id, team_id, meeting_id,
+                                  status, priority, deadline, created_at, updated_at)
+                select 'QP-' || g, 'qp task ' || g, 'generated for query plan checks',
+                       u.ids[1 + g % cardinality(u.ids)], t.ids[1 + g % cardinality(t.ids)],
+                       m.ids[1 + g % cardinality(m.ids)],
+                       (array['TODO','IN_PROGRESS','IN_REVIEW','DONE','BLOCKED'])[1 + g % 5],
+                       (array['LOW','MEDIUM','HIGH','CRITICAL'])[1 + g % 4],
+                       now() + ((g % 60) - 30 || ' days')::interval,
+                       now() - (g || ' seconds')::interval, now()
+                from generate_series(1, ?) g,
+                     (select array_agg(id order by id) as ids from teams where name like 'qp-team-%') t,
+                     (select array_agg(id order by id) as ids from users where username like 'qp-user-%') u,
+                     (select array_agg(id order by id) as ids from meetings where file_name like 'qp-meeting-%') m
+                """, TASKS);
+        jdbcTemplate.execute("analyze teams");
+        jdbcTemplate.execute("analyze users");
+        jdbcTemplate.execute("analyze meetings");
+        jdbcTemplate.execute("analyze tasks");
+
+        task = taskRepository.findWithAssigneeById(
+                jdbcTemplate.queryForObject("select min(id) from tasks where jira_key like 'QP-%'", Long.class))
+                .orElseThrow();
+        team = task.getTeam();
+        // the task only holds a lazy proxy, findHistoryAfter reads its uploadedAt outside a session
+        meeting = meetingRepository.findById(task.getMeeting().getId()).orElseThrow();
+        username = task.getAssignee().getUsername();
+        telegramId = task.getAssignee().getTelegramId();
+    }
+
+    @AfterAll
+    void cleanupAndReport() throws IOException {
+        jdbcTemplate.update("delete from tasks where jira_key like 'QP-%'");
+        jdbcTemplate.update("delete from meetings where file_name like 'qp-meeting-%'");
+        jdbcTemplate.update("delete from users where username like 'qp-user-%'");
+        jdbcTemplate.update("delete from teams where name like 'qp-team-%'");
+
+        if (UPDATE_BASELINE) {
+            Files.createDirectories(BASELINE.getParent());
+            objectMapper.copy()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(BASELINE.toFile(), actual);
+        }
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueryPlans() {
+        Map<String, Runnable> cases = new LinkedHashMap<>();
+
+        cases.put("TaskRepository.findByTeam", () -> taskRepository.findByTeam(team));
+        cases.put("TaskRepository.findByTeamAndStatus", () -> taskRepository.findByTeamAndStatus(team, TaskStatus.IN_PROGRESS));
+        cases.put("TaskRepository.findByTeamAndDeadlineBefore",
+                () -> taskRepository.findByTeamAndDeadlineBefore(team, LocalDateTime.now()));
+        cases.put("TaskRepository.findWithAssigneeById", () -> taskRepository.findWithAssigneeById(task.getId()));
+        cases.put("TaskRepository.findByMeetingOrderByCreatedAtAscIdAsc",
+                () -> taskRepository.findByMeetingOrderByCreatedAtAscIdAsc(meeting));
+        cases.put("TaskRepository.findBy(listing)", () -> taskRepository.findBy(
+                (root, query, cb) -> cb.equal(root.get("team"), team),
+                q -> q.sortBy(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"))).limit(51).all()));
+        cases.put("TaskRepository.aggregateByTeam", () -> taskRepository.aggregateByTeam(team));
+        cases.put("TaskRepository.aggregateOverdueByTeam",
+                () -> taskRepository.aggregateOverdueByTeam(team, LocalDateTime.now()));
+        cases.put("TaskRepository.search", () -> taskRepository.search(team.getId(), "qp task", 20, 0));
+        cases.put("MeetingRepository.findHistory",
+                () -> meetingRepository.findHistory(team, HISTORY_STATUSES, PageRequest.of(0, 21)));
+        cases.put("MeetingRepository.findHistoryAfter", () -> meetingRepository.findHistoryAfter(
+                team, HISTORY_STATUSES, meeting.getUploadedAt(), meeting.getId(), PageRequest.of(0, 21)));
+        cases.put("UserRepository.findByUsername", () -> userRepository.findByUsername(username));
+        cases.put("UserRepository.findByTelegramId", () -> userRepository.findByTelegramId(telegramId));
+        cases.put("UserRepository.findByUsernameAndTeam", () -> userRepository.findByUsernameAndTeam(username, team));
+        cases.put("UserRepository.existsByUsername", () -> userRepository.existsByUsername(username));
+        cases.put("UserRepository.existsByTelegramId", () -> userRepository.existsByTelegramId(telegramId));
+
+        return cases.entrySet().stream()
+                .map(e -> DynamicTest.dynamicTest(e.getKey(), () -> checkPlan(e.getKey(), e.getValue())));
+    }
+
+    private void checkPlan(String name, Runnable invocation) throws IOException {
+        QueryCaptureConfiguration.CAPTURED.clear();
+        invocation.run();
+
+        List<CapturedQuery> captured = new ArrayList<>(QueryCaptureConfiguration.CAPTURED);
+        assertTrue(!captured.isEmpty(), name + " did not execute any statement");
+        CapturedQuery query = captured.get(captured.size() - 1);
+
+        String explain = jdbcTemplate.queryForObject(
+                "explain (analyze, buffers, format json) " + query.toExecutableSql(), String.class);
+        PlanSnapshot snapshot = PlanSnapshot.fromExplain(objectMapper.readTree(explain), query.getSql());
+        actual.put(name, snapshot);
+
+        System.out.printf("%-55s buffers=%-8d %s%n", name, snapshot.getSharedBuffers(), snapshot.getNodes());
+
+        if (UPDATE_BASELINE) {
+            return;
+        }
+
+        PlanSnapshot expected = baseline.get(name);
+        if (expected == null) {
+            fail("No baseline plan for " + name + "; run ./gradlew queryPlanTest -Dqueryplan.update-baseline=true");
+        }
+
+        assertEquals(expected.getNodes(), snapshot.getNodes(), "Plan shape changed for " + name);
+
+        long allowed = (long) Math.ceil(expected.getSharedBuffers() * (1 + BUFFER_TOLERANCE)) + BUFFER_SLACK;
+        assertTrue(snapshot.getSharedBuffers() <= allowed,
+                "Buffer regression for " + name + ": " + snapshot.getSharedBuffers()
+                + " shared blocks, baseline " + expected.getSharedBuffers() + " (allowed " + allowed + ")");
+    }
+}
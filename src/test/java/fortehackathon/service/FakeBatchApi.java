@@ -0,0 +1,132 @@
+package fortehackathon.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// minimal stand-in for the OpenAI Files and Batches endpoints: a batch reports in_progress for
+// the given number of polls, then completes with the responder's answer for every input line
+class FakeBatchApi implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final Function<JsonNode, String> responder;
+    private final int pollsUntilDone;
+    private final Map<String, String> files = new ConcurrentHashMap<>();
+    private final Map<String, String> batchInputs = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> polls = new ConcurrentHashMap<>();
+    private final AtomicInteger ids = new AtomicInteger();
+
+    FakeBatchApi(int pollsUntilDone, Function<JsonNode, String> responder) throws IOException {
+        this.pollsUntilDone = pollsUntilDone;
+        this.responder = responder;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/files", this::files);
+        server.createContext("/batches", this::batches);
+        server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    String uploadedFile(String fileId) {
+        return files.get(fileId);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void files(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if ("POST".equals(exchange.getRequestMethod())) {
+            // keep only the JSONL lines of the multipart body
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            var jsonl = new StringBuilder();
+            for (String line : body.split("\r?\n")) {
+                if (line.startsWith("{")) {
+                    jsonl.append(line).append('\n');
+                }
+            }
+            String id = "file-" + ids.incrementAndGet();
+            files.put(id, jsonl.toString());
+            respond(exchange, 200, json(Map.of("id", id, "purpose", "batch")));
+            return;
+        }
+
+        String fileId = path.substring("/files/".length(), path.length() - "/content".length());
+        String content = files.get(fileId);
+        respond(exchange, content != null ? 200 : 404, content != null ? content : "{}");
+    }
+
+    private void batches(HttpExchange exchange) throws IOException {
+        if ("POST".equals(exchange.getRequestMethod())) {
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            String id = "batch-" + ids.incrementAndGet();
+            batchInputs.put(id, request.get("input_file_id").asText());
+            polls.put(id, new AtomicInteger());
+            respond(exchange, 200, json(Map.of("id", id, "status", "validating")));
+            return;
+        }
+
+        String id = exchange.getRequestURI().getPath().substring("/batches/".length());
+        if (polls.get(id).incrementAndGet() <= pollsUntilDone) {
+            respond(exchange, 200, json(Map.of("id", id, "status", "in_progress")));
+            return;
+        }
+
+        String outputId = "file-" + id + "-output";
+        files.computeIfAbsent(outputId, key -> complete(files.get(batchInputs.get(id))));
+        respond(exchange, 200, json(Map.of("id", id, "status", "completed", "output_file_id", outputId)));
+    }
+
+    private String complete(String input) {
+        var output = new StringBuilder();
+        for (String line : input.split("\n")) {
+            try {
+                JsonNode request = objectMapper.readTree(line);
+                output.append(json(Map.of(
+                        "id", "req-" + ids.incrementAndGet(),
+                        "custom_id", request.get("custom_id").asText(),
+                        "response", Map.of(
+                                "status_code", 200,
+                                "body", Map.of("choices", List.of(Map.of(
+                                        "message", Map.of("role", "assistant",
+                                                "content", responder.apply(request.get("body")))))))
+                ))).append('\n');
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return output.toString();
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (var out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
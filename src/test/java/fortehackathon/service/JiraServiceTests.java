@@ -0,0 +1,116 @@
+package fortehackathon.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fortehackathon.entity.Task;
+import fortehackathon.entity.TaskStatus;
+import fortehackathon.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class JiraServiceTests {
+
+    private static final String JIRA = "http://jira.test";
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    private JiraService jiraService;
+
+    @BeforeEach
+    void setUp() {
+        executor.initialize();
+        jiraService = new JiraService(restTemplate, new ObjectMapper(), executor);
+        ReflectionTestUtils.setField(jiraService, "jiraUrl", JIRA);
+        ReflectionTestUtils.setField(jiraService, "bulkPollInterval", Duration.ofMillis(1));
+        ReflectionTestUtils.setField(jiraService, "bulkPollTimeout", Duration.ofMillis(200));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void bulkTransitionReportsIssuesTheQueuedTaskFailed() {
+        expectBulkSubmit();
+        expectQueue("""
+                {"status":"RUNNING","progressPercent":50}""");
+        expectQueue("""
+                {"status":"COMPLETE","progressPercent":100,
+                 "processedAccessibleIssues":[10001],
+                 "failedAccessibleIssues":{"10002":["Transition is not available"]},
+                 "invalidOrInaccessibleIssueCount":1}""");
+        server.expect(requestTo(JIRA + "/rest/api/3/issue/bulkfetch"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess("""
+                        {"issues":[{"id":"10001","key":"PERF-1"},{"id":"10002","key":"PERF-2"}]}""",
+                        MediaType.APPLICATION_JSON));
+
+        Map<String, String> failures = jiraService.bulkUpdateIssues(user(),
+                List.of(task("PERF-1"), task("PERF-2"), task("PERF-3")), List.of());
+
+        server.verify();
+        assertEquals(2, failures.size());
+        assertFalse(failures.containsKey("PERF-1"));
+        assertTrue(failures.get("PERF-2").contains("Transition is not available"));
+        assertTrue(failures.get("PERF-3").contains("invalid or inaccessible"));
+    }
+
+    @Test
+    void bulkTransitionFailsEveryIssueWhenPollingTimesOut() {
+        expectBulkSubmit();
+        server.expect(ExpectedCount.manyTimes(), requestTo(JIRA + "/rest/api/3/bulk/queue/77"))
+                .andRespond(withSuccess("""
+                        {"status":"ENQUEUED","progressPercent":0}""", MediaType.APPLICATION_JSON));
+
+        Map<String, String> failures = jiraService.bulkUpdateIssues(user(),
+                List.of(task("PERF-1"), task("PERF-2")), List.of());
+
+        assertEquals(2, failures.size());
+        assertTrue(failures.get("PERF-1").contains("did not finish"));
+    }
+
+    private void expectBulkSubmit() {
+        server.expect(requestTo(JIRA + "/rest/api/3/bulk/issues/transition"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess("""
+                        {"taskId":"77"}""", MediaType.APPLICATION_JSON));
+    }
+
+    private void expectQueue(String body) {
+        server.expect(requestTo(JIRA + "/rest/api/3/bulk/queue/77"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+    }
+
+    private static User user() {
+        return User.builder()
+                .jiraUsername("pm@forte.kz")
+                .jiraApiToken("token")
+                .build();
+    }
+
+    private static Task task(String key) {
+        return Task.builder()
+                .jiraKey(key)
+                .status(TaskStatus.DONE)
+                .build();
+    }
+}
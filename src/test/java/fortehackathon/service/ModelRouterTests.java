@@ -0,0 +1,82 @@
+package fortehackathon.service;
+
+import fortehackathon.properties.ModelRoutingProperties;
+import fortehackathon.util.TokenCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModelRouterTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ModelRouter router = new ModelRouter(properties(), new TokenCounter(), meterRegistry);
+
+    @Test
+    void shortTextGetsSmallModelAndItsCap() {
+        var route = router.route(AIService.TASK_FROM_TEXT, "Fix the login timeout by Friday, Aidar");
+
+        assertEquals("gpt-4.1-nano", route.getModel());
+        assertEquals(1, route.getExpectedTasks());
+        // 450 estimated, raised to the 1500 floor, capped by the route
+        assertEquals(1_000, route.getMaxTokens());
+        assertEquals(1.0, meterRegistry.counter("llm.route",
+                "endpoint", AIService.TASK_FROM_TEXT, "model", "gpt-4.1-nano").count());
+    }
+
+    @Test
+    void outputBudgetGrowsWithMeetingLength() {
+        var shortMeeting = router.route(AIService.MEETING_ANALYSIS, "word ".repeat(500));
+        var longMeeting = router.route(AIService.MEETING_ANALYSIS, "word ".repeat(5_000));
+
+        assertEquals("gpt-4.1-mini", shortMeeting.getModel());
+        assertTrue(longMeeting.getExpectedTasks() > shortMeeting.getExpectedTasks());
+        assertTrue(longMeeting.getMaxTokens() > shortMeeting.getMaxTokens());
+    }
+
+    @Test
+    void outputBudgetNeverDropsBelowTheFloor() {
+        var route = router.route(AIService.MEETING_ANALYSIS, "word ".repeat(500));
+
+        assertEquals(1_500, route.getMaxTokens());
+    }
+
+    @Test
+    void oversizedInputFallsThroughToLastRouteAndItsCap() {
+        var route = router.route(AIService.MEETING_ANALYSIS, "word ".repeat(40_000));
+
+        assertEquals("gpt-4.1", route.getModel());
+        assertEquals(16_000, route.getMaxTokens());
+    }
+
+    @Test
+    void unknownEndpointFails() {
+        assertThrows(RuntimeException.class, () -> router.route("unknown", "text"));
+    }
+
+    private static ModelRoutingProperties properties() {
+        var text = new ModelRoutingProperties.Endpoint();
+        text.setExpectedTasks(1);
+        text.setOutputTokensPerTask(350);
+        text.setOutputTokensOverhead(100);
+        text.setRoutes(List.of(route("gpt-4.1-nano", 2_000, 1_000), route("gpt-4.1-mini", null, 1_500)));
+
+        var meeting = new ModelRoutingProperties.Endpoint();
+        meeting.setRoutes(List.of(route("gpt-4.1-mini", 30_000, 8_000), route("gpt-4.1", null, 16_000)));
+
+        var properties = new ModelRoutingProperties();
+        properties.setEndpoints(Map.of(AIService.TASK_FROM_TEXT, text, AIService.MEETING_ANALYSIS, meeting));
+        return properties;
+    }
+
+    private static ModelRoutingProperties.Route route(String model, Integer maxInputTokens, int maxOutputTokens) {
+        var route = new ModelRoutingProperties.Route();
+        route.setModel(model);
+        route.setMaxInputTokens(maxInputTokens);
+        route.setMaxOutputTokens(maxOutputTokens);
+        return route;
+    }
+}
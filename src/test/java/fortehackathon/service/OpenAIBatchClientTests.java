@@ -0,0 +1,62 @@
+package fortehackathon.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fortehackathon.properties.OpenAIProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenAIBatchClientTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private FakeBatchApi fake;
+    private OpenAIBatchClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fake = new FakeBatchApi(1, body -> "[{\"summary\":\"" + body.get("model").asText() + "\"}]");
+
+        var properties = new OpenAIProperties();
+        properties.setOpenAIURL(fake.url());
+        properties.setOpenAIAPI("test-key");
+        client = new OpenAIBatchClient(new RestTemplate(), objectMapper, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fake.close();
+    }
+
+    @Test
+    void submitsPollsAndDownloadsResults() throws Exception {
+        String jsonl = """
+                {"custom_id":"meeting-1","method":"POST","url":"/v1/chat/completions","body":{"model":"gpt-4.1-mini"}}
+                {"custom_id":"meeting-2","method":"POST","url":"/v1/chat/completions","body":{"model":"gpt-4.1"}}
+                """;
+
+        String fileId = client.uploadBatchFile("meetings.jsonl", jsonl.getBytes(StandardCharsets.UTF_8));
+        assertEquals(jsonl, fake.uploadedFile(fileId));
+
+        var job = client.createBatch(fileId);
+        assertEquals("validating", job.getStatus());
+
+        assertEquals("in_progress", client.getBatch(job.getId()).getStatus());
+
+        var completed = client.getBatch(job.getId());
+        assertEquals("completed", completed.getStatus());
+        assertNull(completed.getErrorFileId());
+
+        String[] lines = client.downloadFile(completed.getOutputFileId()).split("\n");
+        assertEquals(2, lines.length);
+
+        var first = objectMapper.readTree(lines[0]);
+        assertEquals("meeting-1", first.get("custom_id").asText());
+        assertEquals("[{\"summary\":\"gpt-4.1-mini\"}]",
+                first.at("/response/body/choices/0/message/content").asText());
+    }
+}
@@ -0,0 +1,132 @@
+package fortehackathon.service;
+
+import fortehackathon.dto.OverdueDigest;
+import fortehackathon.entity.*;
+import fortehackathon.event.OverdueTasksEvent;
+import fortehackathon.repository.TaskRepository;
+import fortehackathon.repository.TeamRepository;
+import fortehackathon.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// not @Transactional: the sweeper commits each batch in its own transaction
+@SpringBootTest(properties = "overdue-sweeper.initial-delay=PT1H")
+@RecordApplicationEvents
+class OverdueSweeperServiceTests {
+
+    @Autowired
+    private OverdueSweeperService sweeperService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Team team;
+    private Long telegramId;
+
+    @BeforeEach
+    void seed() {
+        String suffix = UUID.randomUUID().toString();
+        telegramId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+
+        User pm = userRepository.save(User.builder()
+                .username("pm-" + suffix)
+                .password("secret")
+                .role(Role.PROJECT_MANAGER)
+                .telegramId(telegramId)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        team = teamRepository.save(Team.builder()
+                .name("team-" + suffix)
+                .projectManager(pm)
+                .members(new ArrayList<>())
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    void announcesTaskCreatedWithDeadlineBehindAnAnnouncedOne() {
+        Task recent = save(TaskStatus.TODO, LocalDateTime.now().minusMinutes(5));
+        sweeperService.sweep();
+        assertEquals(List.of(recent.getJiraKey()), announcedKeys());
+
+        // an import or late edit, already a day past due
+        Task imported = save(TaskStatus.TODO, LocalDateTime.now().minusDays(1));
+        events.clear();
+        sweeperService.sweep();
+
+        assertEquals(List.of(imported.getJiraKey()), announcedKeys());
+    }
+
+    @Test
+    void announcesTaskReopenedAfterItsDeadline() {
+        Task done = save(TaskStatus.DONE, LocalDateTime.now().minusHours(2));
+        save(TaskStatus.TODO, LocalDateTime.now().minusMinutes(5));
+        sweeperService.sweep();
+        assertFalse(announcedKeys().contains(done.getJiraKey()));
+
+        done.setStatus(TaskStatus.IN_PROGRESS);
+        taskRepository.save(done);
+        events.clear();
+        sweeperService.sweep();
+
+        assertEquals(List.of(done.getJiraKey()), announcedKeys());
+    }
+
+    @Test
+    void doesNotAnnounceTheSameTaskTwice() {
+        Task task = save(TaskStatus.TODO, LocalDateTime.now().minusMinutes(5));
+        sweeperService.sweep();
+        assertEquals(List.of(task.getJiraKey()), announcedKeys());
+
+        events.clear();
+        sweeperService.sweep();
+
+        assertEquals(List.of(), announcedKeys());
+        assertNotNull(taskRepository.findById(task.getId()).orElseThrow().getOverdueNotifiedAt());
+    }
+
+    private Task save(TaskStatus status, LocalDateTime deadline) {
+        return taskRepository.save(Task.builder()
+                .jiraKey("OVD-" + UUID.randomUUID())
+                .summary("overdue")
+                .team(team)
+                .status(status)
+                .priority(Priority.MEDIUM)
+                .deadline(deadline)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    // lines are "<key> — <summary> (дедлайн ...)", only this test's project manager is considered
+    private List<String> announcedKeys() {
+        return events.stream(OverdueTasksEvent.class)
+                .flatMap(e -> e.getDigests().stream())
+                .filter(d -> telegramId.equals(d.getTelegramId()))
+                .map(OverdueDigest::getLines)
+                .flatMap(List::stream)
+                .map(line -> line.substring(0, line.indexOf(" — ")))
+                .toList();
+    }
+}
@@ -0,0 +1,167 @@
+package fortehackathon.service;
+
+import fortehackathon.entity.Role;
+import fortehackathon.entity.Team;
+import fortehackathon.entity.User;
+import fortehackathon.event.TeamDataChangedEvent;
+import fortehackathon.repository.TeamRepository;
+import fortehackathon.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// commits for real: second-level cache puts and evictions only happen on transaction completion
+@SpringBootTest
+class SecondLevelCacheTests {
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private TeamVersionService teamVersionService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private String suffix;
+    private User pm;
+    private Team team;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        suffix = UUID.randomUUID().toString();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            pm = userRepository.save(User.builder()
+                    .username("pm-" + suffix)
+                    .password("secret")
+                    .role(Role.PROJECT_MANAGER)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+
+            team = teamRepository.save(Team.builder()
+                    .name("team-" + suffix)
+                    .projectManager(pm)
+                    .members(new ArrayList<>())
+                    .createdAt(LocalDateTime.now())
+                    .build());
+
+            pm.setTeam(team);
+            userRepository.save(pm);
+        });
+
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("update users set team_id = null where team_id = ?", team.getId());
+        jdbcTemplate.update("delete from teams where id = ?", team.getId());
+        jdbcTemplate.update("delete from users where username like ?", "%-" + suffix);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void principalIsServedFromCacheOnceWarm() {
+        userDetailsService.loadUser(pm.getUsername());
+        statistics.clear();
+
+        User user = userDetailsService.loadUser(pm.getUsername());
+
+        assertEquals(team.getName(), user.getTeam().getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void teamUpdateIsVisibleAfterCommit() {
+        loadTeamName();
+
+        transactionTemplate.executeWithoutResult(status ->
+                teamRepository.findById(team.getId()).orElseThrow().setName("renamed-" + suffix));
+
+        assertEquals("renamed-" + suffix, loadTeamName());
+    }
+
+    @Test
+    void addingMemberEvictsMembersCollection() {
+        assertEquals(1, loadMemberCount());
+
+        transactionTemplate.executeWithoutResult(status -> userRepository.save(User.builder()
+                .username("dev-" + suffix)
+                .password("secret")
+                .role(Role.BACKEND_DEVELOPER)
+                .team(entityManager.getReference(Team.class, team.getId()))
+                .createdAt(LocalDateTime.now())
+                .build()));
+
+        assertEquals(2, loadMemberCount());
+    }
+
+    @Test
+    void removingMemberEvictsMembersCollection() {
+        assertEquals(1, loadMemberCount());
+
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(pm.getId()).orElseThrow().setTeam(null));
+
+        assertEquals(0, loadMemberCount());
+    }
+
+    @Test
+    void dataVersionBumpKeepsTeamCached() {
+        User user = userDetailsService.loadUser(pm.getUsername());
+        String before = teamVersionService.etag(user, "tasks", null);
+
+        transactionTemplate.executeWithoutResult(status ->
+                eventPublisher.publishEvent(new TeamDataChangedEvent(team.getId())));
+
+        assertNotEquals(before, teamVersionService.etag(user, "tasks", null));
+        assertTrue(entityManagerFactory.getCache().contains(Team.class, team.getId()));
+    }
+
+    private String loadTeamName() {
+        return transactionTemplate.execute(status ->
+                teamRepository.findById(team.getId()).orElseThrow().getName());
+    }
+
+    private int loadMemberCount() {
+        return transactionTemplate.execute(status ->
+                teamRepository.findById(team.getId()).orElseThrow().getMembers().size());
+    }
+}
@@ -0,0 +1,155 @@
+package fortehackathon.service;
+
+import fortehackathon.dto.TaskFilter;
+import fortehackathon.entity.*;
+import fortehackathon.repository.MeetingRepository;
+import fortehackathon.repository.TaskRepository;
+import fortehackathon.repository.TeamRepository;
+import fortehackathon.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class StatementCountTests {
+
+    private static final int TASK_COUNT = 20;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User pm;
+    private Meeting meeting;
+    private Task task;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String suffix = UUID.randomUUID().toString();
+
+        pm = userRepository.save(User.builder()
+                .username("pm-" + suffix)
+                .password("secret")
+                .role(Role.PROJECT_MANAGER)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        Team team = teamRepository.save(Team.builder()
+                .name("team-" + suffix)
+                .projectManager(pm)
+                .members(new ArrayList<>())
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        pm.setTeam(team);
+        userRepository.save(pm);
+
+        meeting = meetingRepository.save(Meeting.builder()
+                .team(team)
+                .uploadedAt(LocalDateTime.now())
+                .processingStatus(ProcessingStatus.COMPLETED)
+                .build());
+
+        for (int i = 0; i < TASK_COUNT; i++) {
+            User assignee = userRepository.save(User.builder()
+                    .username("dev-" + i + "-" + suffix)
+                    .password("secret")
+                    .role(Role.BACKEND_DEVELOPER)
+                    .team(team)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+
+            task = taskRepository.save(Task.builder()
+                    .jiraKey("KEY-" + i + "-" + suffix)
+                    .summary("Task " + i)
+                    .team(team)
+                    .assignee(assignee)
+                    .meeting(meeting)
+                    .status(TaskStatus.TODO)
+                    .priority(Priority.MEDIUM)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void getTasksUsesSingleStatement() {
+        var page = taskService.getTasks(pm, TaskFilter.builder().build(), null, 50);
+
+        assertEquals(TASK_COUNT, page.getTasks().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getTaskUsesSingleStatement() {
+        taskService.getTask(pm, task.getId());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getMeetingStatusDoesNotFanOutPerTask() {
+        var response = meetingService.getMeetingStatus(pm, meeting.getId());
+
+        assertEquals(TASK_COUNT, response.getTasks().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    // a cold roster costs the version lookup plus one fetch of the team with its members
+    @Test
+    void getTeamUsesVersionLookupAndSingleFetch() {
+        var response = teamService.getTeam(pm);
+
+        assertEquals(TASK_COUNT + 1, response.getMembers().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        teamService.getTeam(pm);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,72 @@
+package fortehackathon.util;
+
+import fortehackathon.dto.AssigneeMatch;
+import fortehackathon.dto.TeamRoster;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssigneeIndexTests {
+
+    private final AssigneeIndex index = new AssigneeIndex(List.of(
+            new TeamRoster.Member(1L, "aidar.k@corp", "aidar.k@corp.kz", "DEVELOPER", null),
+            new TeamRoster.Member(2L, "dmitriy.ivanov", "d.ivanov@corp.kz", "DEVELOPER", "divanov"),
+            new TeamRoster.Member(3L, "asel_n", "asel@corp.kz", "DEVELOPER", null),
+            new TeamRoster.Member(4L, "aigerim", "aigerim@corp.kz", "DEVELOPER", null)
+    ));
+
+    @Test
+    void exactUsernameHasFullConfidence() {
+        var match = index.match("aidar.k@corp").orElseThrow();
+
+        assertEquals(1L, match.getUserId());
+        assertEquals(1.0, match.getConfidence());
+    }
+
+    @Test
+    void firstNameMatchesUsernameToken() {
+        assertEquals(1L, index.match("Aidar").orElseThrow().getUserId());
+        assertEquals(2L, index.match("Ivanov").orElseThrow().getUserId());
+    }
+
+    @Test
+    void cyrillicNamesAreTransliterated() {
+        assertEquals(1L, index.match("Айдар К.").orElseThrow().getUserId());
+        assertEquals(2L, index.match("Дмитрий").orElseThrow().getUserId());
+        assertEquals(3L, index.match("Асель").orElseThrow().getUserId());
+        assertEquals(4L, index.match("Айгерім").orElseThrow().getUserId());
+    }
+
+    @Test
+    void spellingVariantsFoldTogether() {
+        assertEquals(2L, index.match("Dmitry Ivanov").orElseThrow().getUserId());
+        assertEquals(1L, index.match("Aydar").orElseThrow().getUserId());
+    }
+
+    @Test
+    void unknownOrAmbiguousNamesStayUnassigned() {
+        var withNamesake = new AssigneeIndex(List.of(
+                new TeamRoster.Member(1L, "aidar.k", "aidar.k@corp.kz", "DEVELOPER", null),
+                new TeamRoster.Member(2L, "aidar.s", "aidar.s@corp.kz", "DEVELOPER", null)
+        ));
+
+        assertTrue(index.match("Bob").isEmpty());
+        assertTrue(index.match("Ai").isEmpty());
+        assertTrue(index.match(null).isEmpty());
+        assertTrue(withNamesake.match("Aidar").isEmpty());
+        assertEquals(2L, withNamesake.match("Aidar S").orElseThrow().getUserId());
+    }
+
+    @Test
+    void matchAllResolvesEachDistinctName() {
+        Map<String, AssigneeMatch> matches = index.matchAll(List.of("Aidar", "Асель", "Aidar", "Bob"));
+
+        assertEquals(2, matches.size());
+        assertEquals(1L, matches.get("Aidar").getUserId());
+        assertEquals(3L, matches.get("Асель").getUserId());
+        assertTrue(matches.get("Aidar").getConfidence() >= AssigneeIndex.MIN_CONFIDENCE);
+    }
+}
@@ -0,0 +1,34 @@
+package fortehackathon.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranscriptCodecTests {
+
+    @Test
+    void acceptsListedCodingWithPositiveQuality() {
+        assertTrue(TranscriptCodec.accepts("gzip, deflate, br", TranscriptCodec.DEFLATE));
+        assertTrue(TranscriptCodec.accepts("gzip;q=1.0, Deflate;q=0.5", TranscriptCodec.DEFLATE));
+    }
+
+    @Test
+    void refusesCodingWithZeroQuality() {
+        assertFalse(TranscriptCodec.accepts("gzip, deflate;q=0", TranscriptCodec.DEFLATE));
+        assertFalse(TranscriptCodec.accepts("deflate; q=0.000", TranscriptCodec.DEFLATE));
+    }
+
+    @Test
+    void exactEntryOverridesWildcard() {
+        assertTrue(TranscriptCodec.accepts("*", TranscriptCodec.DEFLATE));
+        assertFalse(TranscriptCodec.accepts("*;q=0.5, deflate;q=0", TranscriptCodec.DEFLATE));
+        assertFalse(TranscriptCodec.accepts("gzip, *;q=0", TranscriptCodec.DEFLATE));
+    }
+
+    @Test
+    void refusesMissingOrSimilarCodings() {
+        assertFalse(TranscriptCodec.accepts(null, TranscriptCodec.DEFLATE));
+        assertFalse(TranscriptCodec.accepts("gzip", TranscriptCodec.DEFLATE));
+        assertFalse(TranscriptCodec.accepts("x-deflate-custom", TranscriptCodec.DEFLATE));
+    }
+}
@@ -0,0 +1,98 @@
+package fortehackathon.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranscriptCompressorTests {
+
+    @Test
+    void stripsCueNumbersTimingsAndFillers() {
+        String compressed = TranscriptCompressor.compress("""
+                WEBVTT
+
+                1
+                00:00:01.200 --> 00:00:04.800
+                Aidar: Um, so, uh, the release is on Friday.
+                """);
+
+        assertEquals("Aidar: so, the release is on Friday.", compressed);
+    }
+
+    @Test
+    void collapsesSpeakerRunsAndDropsRepeatedSentences() {
+        String compressed = TranscriptCompressor.compress("""
+                [00:00:05] Dmitriy: I can take the webhook retries.
+                [00:00:07] Dmitriy: [crosstalk]
+                [00:00:08] Dmitriy: I can take the webhook retries. Two days of work.
+                [00:00:12] Asel: Yes.
+                [00:00:13] Asel: Yes.
+                """);
+
+        assertEquals("Dmitriy: I can take the webhook retries. Two days of work.\nAsel: Yes.", compressed);
+    }
+
+    @Test
+    void keepsTimesAndNumbersThatAreContent() {
+        String compressed = TranscriptCompressor.compress("Aigerim: 12:00 works, the the the deploy takes 10 10 minutes.");
+
+        assertEquals("Aigerim: 12:00 works, the deploy takes 10 10 minutes.", compressed);
+    }
+
+    @Test
+    void keepsDoubledWordsThatAreGrammatical() {
+        String compressed = TranscriptCompressor.compress("Asel: I think that that fix is enough.");
+
+        assertEquals("Asel: I think that that fix is enough.", compressed);
+    }
+
+    @Test
+    void keepsSentencesThatDifferByAWordOrBySpeaker() {
+        String compressed = TranscriptCompressor.compress("""
+                Dmitriy: We will not ship the release on Friday.
+                Dmitriy: We will ship the release on Friday.
+                Asel: I will fix the login page.
+                Aidar: I will fix the login page.
+                """);
+
+        assertEquals("""
+                Dmitriy: We will not ship the release on Friday. We will ship the release on Friday.
+                Asel: I will fix the login page.
+                Aidar: I will fix the login page.""", compressed);
+    }
+
+    @Test
+    void handlesCyrillicFillersAndSpeakerHeaders() {
+        String compressed = TranscriptCompressor.compress("""
+                Айгерим  0:00
+                Ну, э, Дмитрий, возьми флаки тесты до среды.
+                """);
+
+        assertEquals("Айгерим: Ну, Дмитрий, возьми флаки тесты до среды.", compressed);
+    }
+
+    @Test
+    void keepsUnitsAndAcronymsThatLookLikeFillers() {
+        assertEquals("Aidar: the cable is 5 m long, M size shirts.",
+                TranscriptCompressor.compress("Aidar: the cable is 5 m long, M size shirts."));
+        assertEquals("Aidar: Er, ER is down.",
+                TranscriptCompressor.compress("Aidar: Er, ER is down."));
+        assertEquals("Asel: the ER dashboard and the UM module need an HM review.",
+                TranscriptCompressor.compress("Asel: um, the ER dashboard and the UM module need an HM review."));
+        assertEquals("Айгерим: в 5 м от входа.",
+                TranscriptCompressor.compress("Айгерим: Эм, в 5 м от входа."));
+    }
+
+    @Test
+    void keepsTimesInContinuationLinesUnderSpeakerHeaders() {
+        String compressed = TranscriptCompressor.compress("""
+                Aidar  0:01
+                Deploy at 10:30 tomorrow.
+                Asel will do it.
+                Asel  0:09
+                Sure: I will.
+                """);
+
+        assertEquals("Aidar: Deploy at 10:30 tomorrow. Asel will do it.\nAsel: Sure: I will.", compressed);
+    }
+}